@@ -0,0 +1,27 @@
+plugins {
+    id("io.micronaut.build.internal.json-schema-base")
+    java
+    alias(libs.plugins.jmh)
+}
+
+// The benchmarks use the models of the validation tests and the schemas generated for them
+evaluationDependsOn(":micronaut-json-schema-validation")
+val validationTestOutput = project(":micronaut-json-schema-validation").the<SourceSetContainer>()["test"].output
+
+dependencies {
+    jmhImplementation(projects.micronautJsonSchemaValidation)
+    jmhImplementation(validationTestOutput)
+    jmhImplementation(mnValidation.micronaut.validation)
+    jmhImplementation(mn.micronaut.jackson.databind)
+    jmhRuntimeOnly(mnTest.micronaut.test.junit5)
+    jmhRuntimeOnly(libs.junit.jupiter.api)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    // Report the allocation rate, so that allocation regressions are visible
+    profilers.add("gc")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+}
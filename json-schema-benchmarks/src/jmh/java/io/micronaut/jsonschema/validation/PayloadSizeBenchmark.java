@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the validation of {@link Possum} trees of different sizes.
+ * The schema of a possum references the schema of its children and of {@link Environment}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadSizeBenchmark {
+
+    /**
+     * The number of children of each possum, at two levels.
+     * The trees have 3, 111 and 10101 possums.
+     */
+    @Param({"1", "10", "100"})
+    public int children;
+
+    private ApplicationContext context;
+    private JsonSchemaValidator validator;
+    private Possum possum;
+    private String possumJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = ApplicationContext.run();
+        validator = context.getBean(JsonSchemaValidator.class);
+        possum = possum(2);
+        possumJson = context.getBean(JsonMapper.class).writeValueAsString(possum);
+        validateString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Set<? extends ValidationMessage> validateString() throws IOException {
+        return validator.validate(possumJson, Possum.class);
+    }
+
+    @Benchmark
+    public Set<? extends ValidationMessage> validateObject() throws IOException {
+        return validator.validate(possum, Possum.class);
+    }
+
+    private Possum possum(int depth) {
+        if (depth == 0) {
+            return new Possum("Leaf", Collections.emptyList(), new Environment("forest"));
+        }
+        List<Possum> possums = new ArrayList<>(children);
+        for (int i = 0; i < children; ++i) {
+            possums.add(possum(depth - 1));
+        }
+        return new Possum("Possum " + depth, possums, new Environment("marshland"));
+    }
+}
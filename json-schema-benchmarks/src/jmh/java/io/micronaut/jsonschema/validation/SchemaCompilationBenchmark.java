@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the first lookup of a schema, which has to read and compile it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchemaCompilationBenchmark {
+
+    @Param({"Llama", "Salamander", "Possum", "Bird"})
+    public String type;
+
+    private ApplicationContext context;
+    private Class<?> schemaType;
+    private JsonSchemaRegistry registry;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ClassNotFoundException {
+        context = ApplicationContext.run();
+        schemaType = Class.forName(ValidationBenchmark.class.getPackageName() + "." + type);
+    }
+
+    @Setup(Level.Invocation)
+    public void createRegistry() {
+        // A new registry has an empty cache
+        registry = context.createBean(DefaultJsonSchemaRegistry.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object compileSchema() {
+        return registry.getSchema(schemaType);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the validation of the test models with a warm schema cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationBenchmark {
+
+    private static final String LLAMA_JSON = "{\"name\":\"John\",\"age\":12}";
+    private static final String BIRD_JSON = "{\"@type\":\"ostrich-bird\",\"name\":\"Ron\",\"runSpeed\":40.5}";
+
+    private ApplicationContext context;
+    private JsonSchemaValidator validator;
+    private Llama llama;
+    private Salamander salamander;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = ApplicationContext.run();
+        validator = context.getBean(JsonSchemaValidator.class);
+        llama = new Llama("John", 12);
+        salamander = new Salamander()
+            .setColors(List.of("green", "red"))
+            .setEnvironments(List.of("pond", "river"))
+            .setSkinColor("green")
+            .setSpecies("Pond Salamander")
+            .setAge(1)
+            .setNegative(-12)
+            .setInteger(20L)
+            .setNumber(50.5);
+        // Compile the schemas before the measurements
+        validateLlamaString();
+        validateSalamanderObject();
+        validateBirdString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Set<? extends ValidationMessage> validateLlamaString() throws IOException {
+        return validator.validate(LLAMA_JSON, Llama.class);
+    }
+
+    @Benchmark
+    public Set<? extends ValidationMessage> validateLlamaObject() throws IOException {
+        return validator.validate(llama, Llama.class);
+    }
+
+    @Benchmark
+    public Set<? extends ValidationMessage> validateSalamanderObject() throws IOException {
+        return validator.validate(salamander, Salamander.class);
+    }
+
+    @Benchmark
+    public Set<? extends ValidationMessage> validateBirdString() throws IOException {
+        return validator.validate(BIRD_JSON, Bird.class);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.visitor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.inject.writer.GeneratedFile;
+import io.micronaut.jsonschema.JsonSchema;
+import io.micronaut.jsonschema.visitor.context.JsonSchemaContext;
+import io.micronaut.jsonschema.visitor.context.JsonSchemaContext.IndexedSchema;
+import io.micronaut.jsonschema.visitor.model.Schema;
+import io.micronaut.jsonschema.visitor.serialization.JsonSchemaMapperFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static io.micronaut.jsonschema.visitor.context.JsonSchemaContext.JSON_SCHEMA_CONTEXT_PROPERTY;
+
+/**
+ * A visitor that writes the index and the catalog of the schemas written by {@link JsonSchemaVisitor} once all
+ * the types are visited. The index is a single resource with a well-known name, so that it can be read without
+ * listing the classpath, which does not work in native images and in jars without directory entries.
+ * The catalog contains all the schemas by their {@code $id}, so that the clients can get them with a single request.
+ *
+ * <p>The index and the catalog depend on all the annotated types, so this visitor is aggregating, while
+ * {@link JsonSchemaVisitor}, which writes the schemas, stays isolating. An incremental compilation
+ * visits all the annotated types again to write them.</p>
+ *
+ * @since 1.3.0
+ * @author agent
+ */
+@Internal
+public final class JsonSchemaIndexVisitor implements TypeElementVisitor<JsonSchema, Object> {
+
+    private static final String SEPARATOR = "\t";
+    private static final String META_INF = "META-INF/";
+
+    @Override
+    public @NonNull TypeElementVisitor.VisitorKind getVisitorKind() {
+        return VisitorKind.AGGREGATING;
+    }
+
+    @Override
+    public void finish(VisitorContext visitorContext) {
+        JsonSchemaContext context = visitorContext.get(JSON_SCHEMA_CONTEXT_PROPERTY, JsonSchemaContext.class, null);
+        if (context == null || context.indexedSchemas().isEmpty()) {
+            return;
+        }
+        ClassElement[] originatingElements = context.indexedSchemas().values().stream()
+            .map(IndexedSchema::originatingElement)
+            .toArray(ClassElement[]::new);
+        writeIndex(context, visitorContext, originatingElements);
+        writeCatalog(context, visitorContext, originatingElements);
+    }
+
+    /**
+     * Write the index that maps the name of each annotated type to the path, the {@code $id} and the entity tag of its schema.
+     * It allows finding the schema of a type without introspecting it.
+     *
+     * @param context The JSON schema creation context
+     * @param visitorContext The visitor context
+     * @param originatingElements The annotated types
+     */
+    private static void writeIndex(JsonSchemaContext context, VisitorContext visitorContext, ClassElement[] originatingElements) {
+        GeneratedFile indexFile = visitorContext.visitMetaInfFile(JsonSchemaContext.INDEX_LOCATION, originatingElements).orElse(null);
+        if (indexFile == null) {
+            visitorContext.warn("Unable to get [\" " + JsonSchemaContext.INDEX_LOCATION + "\"] file to write JSON schema index", null);
+            return;
+        }
+        visitorContext.addGeneratedResource(META_INF + JsonSchemaContext.INDEX_LOCATION);
+        try (Writer writer = indexFile.openWriter()) {
+            writer.write("# The JSON schemas of the annotated types: type, path, $id and entity tag\n");
+            for (Map.Entry<String, IndexedSchema> entry : context.indexedSchemas().entrySet()) {
+                IndexedSchema schema = entry.getValue();
+                writer.write(entry.getKey() + SEPARATOR + schema.path()
+                    + SEPARATOR + (schema.id() == null ? "" : schema.id())
+                    + SEPARATOR + (schema.etag() == null ? "" : schema.etag()) + "\n");
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed writing JSON schema index " + indexFile.getName() + " file: " + e, e);
+        }
+    }
+
+    /**
+     * Write the catalog that contains all the schemas with an {@code $id} by their {@code $id}.
+     * The schemas are serialized as they are in their own files.
+     *
+     * @param context The JSON schema creation context
+     * @param visitorContext The visitor context
+     * @param originatingElements The annotated types
+     */
+    private static void writeCatalog(JsonSchemaContext context, VisitorContext visitorContext, ClassElement[] originatingElements) {
+        Map<String, Schema> schemasById = new TreeMap<>();
+        for (IndexedSchema schema : context.indexedSchemas().values()) {
+            if (schema.id() != null) {
+                schemasById.putIfAbsent(schema.id(), schema.schema());
+            }
+        }
+        if (schemasById.isEmpty()) {
+            return;
+        }
+        GeneratedFile catalogFile = visitorContext.visitMetaInfFile(JsonSchemaContext.CATALOG_LOCATION, originatingElements).orElse(null);
+        if (catalogFile == null) {
+            visitorContext.warn("Unable to get [\" " + JsonSchemaContext.CATALOG_LOCATION + "\"] file to write JSON schema catalog", null);
+            return;
+        }
+        visitorContext.addGeneratedResource(META_INF + JsonSchemaContext.CATALOG_LOCATION);
+        try (OutputStream outputStream = catalogFile.openOutputStream()) {
+            JsonSchemaMapperFactory.createMapper().writeValue(outputStream, schemasById);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed writing JSON schema catalog " + catalogFile.getName() + " file: " + e, e);
+        }
+    }
+
+}
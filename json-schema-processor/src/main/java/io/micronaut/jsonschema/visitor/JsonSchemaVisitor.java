@@ -19,6 +19,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.inject.ast.ClassElement;
 import io.micronaut.inject.ast.EnumElement;
 import io.micronaut.inject.ast.PropertyElement;
@@ -32,13 +33,18 @@ import io.micronaut.jsonschema.visitor.aggregator.JacksonInfoAggregator;
 import io.micronaut.jsonschema.visitor.aggregator.SchemaInfoAggregator;
 import io.micronaut.jsonschema.visitor.aggregator.ValidationInfoAggregator;
 import io.micronaut.jsonschema.visitor.context.JsonSchemaContext;
+import io.micronaut.jsonschema.visitor.context.JsonSchemaContext.IndexedSchema;
 import io.micronaut.jsonschema.visitor.model.Schema;
 import io.micronaut.jsonschema.visitor.model.Schema.Type;
 import io.micronaut.jsonschema.visitor.serialization.JsonSchemaMapperFactory;
+import io.micronaut.jsonschema.visitor.writer.JsonSchemaValidatorWriter;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAmount;
 import java.util.*;
@@ -62,12 +68,24 @@ public final class JsonSchemaVisitor implements TypeElementVisitor<JsonSchema, O
     );
     private static final String SUFFIX = ".schema.json";
     private static final String SLASH = "/";
+    private static final String TIMING_CREATE_SCHEMA = "createSchema";
+    private static final String TIMING_WRITE_SCHEMA = "writeSchema";
+    private static final String TIMING_WRITE_VALIDATOR = "writeValidator";
 
     @Override
     public @NonNull TypeElementVisitor.VisitorKind getVisitorKind() {
         return VisitorKind.ISOLATING;
     }
 
+    @Override
+    public void finish(VisitorContext visitorContext) {
+        JsonSchemaContext context = visitorContext.get(JSON_SCHEMA_CONTEXT_PROPERTY, JsonSchemaContext.class, null);
+        if (context == null || context.timings() == null) {
+            return;
+        }
+        writeTimings(context, visitorContext);
+    }
+
     @Override
     public Set<String> getSupportedOptions() {
         return JsonSchemaContext.getParameters();
@@ -82,8 +100,19 @@ public final class JsonSchemaVisitor implements TypeElementVisitor<JsonSchema, O
                 visitorContext.put(JSON_SCHEMA_CONTEXT_PROPERTY, context);
             }
             context.currentOriginatingElements().clear();
+            long start = System.nanoTime();
             Schema schema = createTopLevelSchema(element, visitorContext, context);
-            writeSchema(schema, element.getGenericType(), visitorContext, context);
+            context.recordTiming(TIMING_CREATE_SCHEMA, start);
+            start = System.nanoTime();
+            String etag = writeSchema(schema, element.getGenericType(), visitorContext, context);
+            context.recordTiming(TIMING_WRITE_SCHEMA, start);
+            String path = "META-INF" + SLASH + context.outputLocation() + SLASH + getFileName(schema, context);
+            context.indexedSchemas().put(element.getName(), new IndexedSchema(path, schema.get$id(), etag, schema, element));
+            if (context.generateValidators()) {
+                start = System.nanoTime();
+                JsonSchemaValidatorWriter.writeValidator(schema, element, visitorContext);
+                context.recordTiming(TIMING_WRITE_VALIDATOR, start);
+            }
         }
     }
 
@@ -116,7 +145,9 @@ public final class JsonSchemaVisitor implements TypeElementVisitor<JsonSchema, O
         setSchemaType(element, visitorContext, context, schema);
 
         for (SchemaInfoAggregator aggregator: SCHEMA_INFO_AGGREGATORS) {
+            long start = System.nanoTime();
             schema = aggregator.addInfo(element, schema, visitorContext, context);
+            context.recordTiming(aggregator.getClass().getSimpleName(), start);
         }
 
         if (schemaAnn != null) {
@@ -251,20 +282,68 @@ public final class JsonSchemaVisitor implements TypeElementVisitor<JsonSchema, O
         }
     }
 
-    public static void writeSchema(Schema schema, ClassElement originatingElement, VisitorContext visitorContext, JsonSchemaContext context) {
+    /**
+     * Write a schema file.
+     *
+     * @param schema The schema
+     * @param originatingElement The annotated type
+     * @param visitorContext The visitor context
+     * @param context The JSON schema creation context
+     * @return The entity tag of the written file, which is a digest of its content, or null if the file could not be written
+     */
+    public static @Nullable String writeSchema(Schema schema, ClassElement originatingElement, VisitorContext visitorContext, JsonSchemaContext context) {
         String fileName = getFileName(schema, context);
         String path = context.outputLocation() + SLASH + fileName;
         GeneratedFile specFile = visitorContext.visitMetaInfFile(path, originatingElement).orElse(null);
         if (specFile == null) {
             visitorContext.warn("Unable to get [\" " + path + "\"] file to write JSON schema", null);
-        } else {
-            visitorContext.info("Generating JSON schema file: " + specFile.getName());
-            try (Writer writer = specFile.openWriter()) {
-                ObjectMapper mapper = JsonSchemaMapperFactory.createMapper();
-                mapper.writeValue(writer, schema);
-            } catch (IOException e) {
-                throw new RuntimeException("Failed writing JSON schema " + specFile.getName() + " file: " + e, e);
-            }
+            return null;
+        }
+        visitorContext.info("Generating JSON schema file: " + specFile.getName());
+        visitorContext.addGeneratedResource("META-INF/" + path);
+        try (OutputStream outputStream = specFile.openOutputStream()) {
+            ObjectMapper mapper = JsonSchemaMapperFactory.createMapper();
+            byte[] bytes = mapper.writeValueAsBytes(schema);
+            outputStream.write(bytes);
+            return etag(bytes);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed writing JSON schema " + specFile.getName() + " file: " + e, e);
+        }
+    }
+
+    /**
+     * Compute the entity tag of a schema file at build time, so that the served schemas do not need to be hashed at runtime.
+     */
+    private static String etag(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Write the timings of the schema generation.
+     * The timings cover all the types of the compilation, so the file is not tied to a single type
+     * and recording them makes the compilation non-incremental.
+     *
+     * @param context The JSON schema creation context
+     * @param visitorContext The visitor context
+     */
+    private static void writeTimings(JsonSchemaContext context, VisitorContext visitorContext) {
+        GeneratedFile timingsFile = visitorContext.visitMetaInfFile(JsonSchemaContext.TIMINGS_LOCATION).orElse(null);
+        if (timingsFile == null) {
+            visitorContext.warn("Unable to get [\" " + JsonSchemaContext.TIMINGS_LOCATION + "\"] file to write JSON schema timings", null);
+            return;
+        }
+        Map<String, Object> timings = new LinkedHashMap<>();
+        timings.put("types", context.createdSchemasByType().size());
+        timings.put("nanos", context.timings());
+        try (Writer writer = timingsFile.openWriter()) {
+            new ObjectMapper().writeValue(writer, timings);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed writing JSON schema timings " + timingsFile.getName() + " file: " + e, e);
         }
     }
 
@@ -22,9 +22,11 @@ import io.micronaut.jsonschema.visitor.model.Schema;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * A context with configuration for the JSON schema.
@@ -38,8 +40,13 @@ import java.util.Set;
  * @param strictMode Whether to generate schemas in strict mode.
  *                   In strict mode unresolved properties in JSON will cause an error.
  *                   All the properties that are not annotated as nullable must be non-null.
+ * @param generateValidators Whether to generate a validator class for each schema.
+ *                           The generated validators are used by the JSON schema validation module.
  * @param createdSchemasByType A cache of crated schemas
  * @param currentOriginatingElements The originating elements for the current schema
+ * @param indexedSchemas The written schemas by the name of the annotated type, which are listed in the schema index
+ * @param timings The total time in nanoseconds spent in each step of the schema generation by the name of the step,
+ *                or {@code null} if the timings are not recorded
  */
 public record JsonSchemaContext(
     String outputLocation,
@@ -47,8 +54,11 @@ public record JsonSchemaContext(
     boolean binaryAsArray,
     JsonSchemaDraft draft,
     boolean strictMode,
+    boolean generateValidators,
     Map<String, Schema> createdSchemasByType,
-    List<ClassElement> currentOriginatingElements
+    List<ClassElement> currentOriginatingElements,
+    Map<String, IndexedSchema> indexedSchemas,
+    Map<String, Long> timings
 ) {
 
     public static final String JSON_SCHEMA_CONTEXT_PROPERTY = "io.micronaut.jsonschema";
@@ -59,16 +69,36 @@ public record JsonSchemaContext(
     public static final String BINARY_AS_ARRAY_PARAMETER = PARAMETER_PREFIX + "binaryAsArray";
     public static final String JSON_SCHEMA_DRAFT_PARAMETER = PARAMETER_PREFIX + "draft";
     public static final String STRICT_MODE_PARAMETER = PARAMETER_PREFIX + "strictMode";
+    public static final String GENERATE_VALIDATORS_PARAMETER = PARAMETER_PREFIX + "generateValidators";
+    public static final String RECORD_TIMINGS_PARAMETER = PARAMETER_PREFIX + "recordTimings";
+
+    /**
+     * The path of the schema index inside the build {@code META-INF/} directory.
+     * Every line of the index lists the name of an annotated type, the path, the {@code $id} and the entity tag
+     * of its schema separated by tabs, so that the indexes of several compilations can be appended to each other.
+     */
+    public static final String INDEX_LOCATION = "micronaut/jsonschema/index";
+    /**
+     * The path of the schema catalog inside the build {@code META-INF/} directory.
+     * The catalog is a JSON object with all the schemas of the compilation by their {@code $id}.
+     */
+    public static final String CATALOG_LOCATION = "micronaut/jsonschema/catalog.json";
+    /**
+     * The location of the timings of the schema generation inside the {@code META-INF/} directory.
+     */
+    public static final String TIMINGS_LOCATION = "micronaut/jsonschema/timings.json";
 
     public static final String DEFAULT_OUTPUT_LOCATION = "schemas";
     public static final boolean DEFAULT_BINARY_AS_ARRAY = false;
     private static final String DEFAULT_BASE_URL = "http://localhost:8080/schemas";
     private static final JsonSchemaDraft DEFAULT_DRAFT = JsonSchemaDraft.DRAFT_2020_12;
     private static final boolean DEFAULT_STRICT_MODE = false;
+    private static final boolean DEFAULT_GENERATE_VALIDATORS = false;
+    private static final boolean DEFAULT_RECORD_TIMINGS = false;
 
     public static Set<String> getParameters() {
         return Set.of(OUTPUT_LOCATION_PARAMETER, BASE_URI_PARAMETER, BINARY_AS_ARRAY_PARAMETER,
-            JSON_SCHEMA_DRAFT_PARAMETER, STRICT_MODE_PARAMETER);
+            JSON_SCHEMA_DRAFT_PARAMETER, STRICT_MODE_PARAMETER, GENERATE_VALIDATORS_PARAMETER, RECORD_TIMINGS_PARAMETER);
     }
 
     public static JsonSchemaContext createDefault(Map<String, String> options) {
@@ -78,7 +108,40 @@ public record JsonSchemaContext(
         JsonSchemaDraft draft = options.get(JSON_SCHEMA_DRAFT_PARAMETER) == null ?
             DEFAULT_DRAFT : JsonSchemaDraft.valueOf(JSON_SCHEMA_DRAFT_PARAMETER);
         boolean strictMode = options.getOrDefault(STRICT_MODE_PARAMETER, String.valueOf(DEFAULT_STRICT_MODE)).equals(StringUtils.TRUE);
-        return new JsonSchemaContext(outputLocation, baseUrl, binaryAsArray, draft, strictMode, new HashMap<>(), new ArrayList<>());
+        boolean generateValidators = options.getOrDefault(GENERATE_VALIDATORS_PARAMETER, String.valueOf(DEFAULT_GENERATE_VALIDATORS)).equals(StringUtils.TRUE);
+        boolean recordTimings = options.getOrDefault(RECORD_TIMINGS_PARAMETER, String.valueOf(DEFAULT_RECORD_TIMINGS)).equals(StringUtils.TRUE);
+        return new JsonSchemaContext(outputLocation, baseUrl, binaryAsArray, draft, strictMode, generateValidators, new HashMap<>(), new ArrayList<>(), new TreeMap<>(),
+            recordTimings ? new LinkedHashMap<>() : null);
+    }
+
+    /**
+     * Add the time spent in a step of the schema generation, if the timings are recorded.
+     *
+     * @param step The name of the step
+     * @param startNanos The start of the step, as returned by {@link System#nanoTime()}
+     */
+    public void recordTiming(String step, long startNanos) {
+        if (timings != null) {
+            timings.merge(step, System.nanoTime() - startNanos, Long::sum);
+        }
+    }
+
+    /**
+     * A schema written for a type annotated with {@link io.micronaut.jsonschema.JsonSchema}.
+     *
+     * @param path The path of the schema file on the classpath
+     * @param id The {@code $id} of the schema
+     * @param etag The entity tag of the schema file, which is a digest of its content
+     * @param schema The schema
+     * @param originatingElement The annotated type
+     */
+    public record IndexedSchema(
+        String path,
+        String id,
+        String etag,
+        Schema schema,
+        ClassElement originatingElement
+    ) {
     }
 
     /**
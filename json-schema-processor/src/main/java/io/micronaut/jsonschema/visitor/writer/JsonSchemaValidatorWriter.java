@@ -0,0 +1,397 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.visitor.writer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.inject.writer.GeneratedFile;
+import io.micronaut.jsonschema.visitor.model.Schema;
+import io.micronaut.jsonschema.visitor.serialization.JsonSchemaMapperFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A writer of validator classes for JSON schemas.
+ * The validator class checks all the keywords of the schema with straight-line code, so that
+ * the schema does not need to be parsed and interpreted at runtime.
+ * A validator is only generated if all the keywords of the schema are supported, and if the
+ * JSON schema validation module, whose classes the validator uses, is on the compile classpath.
+ *
+ * @since 1.3.0
+ * @author agent
+ */
+@Internal
+public final class JsonSchemaValidatorWriter {
+
+    public static final String CLASS_PREFIX = "$";
+    public static final String CLASS_SUFFIX = "$JsonSchemaValidator";
+
+    private static final String ASSERTIONS = "JsonSchemaAssertions.";
+    private static final String ASSERTIONS_CLASS = "io.micronaut.jsonschema.validation.JsonSchemaAssertions";
+    private static final String VALIDATION_AVAILABLE_PROPERTY = "io.micronaut.jsonschema.validation.available";
+    private static final String INDENT = "        ";
+    private static final String METHOD_PREFIX = "validate";
+
+    private final ObjectMapper mapper = JsonSchemaMapperFactory.createMapper();
+    private final StringBuilder fields = new StringBuilder();
+    private final List<StringBuilder> methods = new ArrayList<>();
+    private int fieldCount;
+
+    private JsonSchemaValidatorWriter() {
+    }
+
+    /**
+     * Get the simple name of the validator class generated for a type.
+     *
+     * @param element The type
+     * @return The validator class simple name
+     */
+    public static String getSimpleClassName(ClassElement element) {
+        String packageName = element.getPackageName();
+        String name = element.getName();
+        if (!packageName.isEmpty()) {
+            name = name.substring(packageName.length() + 1);
+        }
+        return CLASS_PREFIX + name + CLASS_SUFFIX;
+    }
+
+    /**
+     * Whether a validator can be generated for the schema.
+     *
+     * @param schema The schema
+     * @return Whether all the keywords of the schema are supported
+     */
+    public static boolean isSupported(Schema schema) {
+        if (schema == Schema.TRUE) {
+            return true;
+        }
+        if (schema == Schema.FALSE || schema.get$ref() != null || schema.getFormat() != null
+            || schema.getMultipleOf() != null || schema.getContains() != null
+            || schema.getMinContains() != null || schema.getMaxContains() != null
+            || schema.getNot() != null) {
+            return false;
+        }
+        if (schema.getItems() != null && !isSupported(schema.getItems())) {
+            return false;
+        }
+        if (schema.getProperties() != null
+            && !schema.getProperties().values().stream().allMatch(JsonSchemaValidatorWriter::isSupported)) {
+            return false;
+        }
+        if (schema.getAdditionalProperties() != null && schema.getAdditionalProperties() != Schema.FALSE
+            && !isSupported(schema.getAdditionalProperties())) {
+            return false;
+        }
+        return schema.getOneOf() == null || schema.getOneOf().stream().allMatch(JsonSchemaValidatorWriter::isSupported);
+    }
+
+    /**
+     * Write the validator class for a schema if all of its keywords are supported.
+     *
+     * @param schema The schema
+     * @param originatingElement The type the schema was created for
+     * @param visitorContext The visitor context
+     */
+    public static void writeValidator(Schema schema, ClassElement originatingElement, VisitorContext visitorContext) {
+        if (!isValidationAvailable(visitorContext)) {
+            return;
+        }
+        if (!isSupported(schema)) {
+            visitorContext.info("JSON schema validator is not generated for type " + originatingElement.getName()
+                + " as the schema has keywords that are not supported", originatingElement);
+            return;
+        }
+        String packageName = originatingElement.getPackageName();
+        String className = getSimpleClassName(originatingElement);
+        GeneratedFile sourceFile = visitorContext.visitGeneratedSourceFile(packageName, className, originatingElement).orElse(null);
+        if (sourceFile == null) {
+            visitorContext.warn("Unable to get [\"" + className + "\"] source file to write JSON schema validator", originatingElement);
+            return;
+        }
+        String source = new JsonSchemaValidatorWriter().generate(schema, packageName, className);
+        try (Writer writer = sourceFile.openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed writing JSON schema validator " + className + " source file: " + e, e);
+        }
+    }
+
+    /**
+     * Whether the validation module is on the compile classpath, as the generated sources would not compile otherwise.
+     * The result is kept in the visitor context, so that the missing module is only reported once.
+     */
+    private static boolean isValidationAvailable(VisitorContext visitorContext) {
+        Boolean available = visitorContext.get(VALIDATION_AVAILABLE_PROPERTY, Boolean.class, null);
+        if (available == null) {
+            available = visitorContext.getClassElement(ASSERTIONS_CLASS).isPresent();
+            visitorContext.put(VALIDATION_AVAILABLE_PROPERTY, available);
+            if (!available) {
+                visitorContext.warn("JSON schema validators are not generated as the micronaut-json-schema-validation module"
+                    + " is not on the compile classpath", null);
+            }
+        }
+        return available;
+    }
+
+    private String generate(Schema schema, String packageName, String className) {
+        writeMethod(schema);
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("""
+            import com.fasterxml.jackson.databind.JsonNode;
+            import io.micronaut.core.annotation.Generated;
+            import io.micronaut.jsonschema.validation.GeneratedJsonSchemaValidator;
+            import io.micronaut.jsonschema.validation.JsonSchemaAssertions;
+            import io.micronaut.jsonschema.validation.ValidationMessage;
+            import java.math.BigDecimal;
+            import java.util.ArrayList;
+            import java.util.Iterator;
+            import java.util.List;
+            import java.util.Set;
+            import java.util.regex.Pattern;
+
+            @Generated
+            public final class\s""").append(className).append(" implements GeneratedJsonSchemaValidator {\n\n");
+        source.append(fields);
+        if (!fields.isEmpty()) {
+            source.append('\n');
+        }
+        source.append("""
+                @Override
+                public void validate(JsonNode node, String path, List<ValidationMessage> messages) {
+                    validate0(node, path, messages);
+                }
+            """);
+        for (StringBuilder method : methods) {
+            source.append('\n').append(method);
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private int writeMethod(Schema schema) {
+        int index = methods.size();
+        StringBuilder method = new StringBuilder();
+        methods.add(method);
+        method.append("    private static void ").append(METHOD_PREFIX).append(index)
+            .append("(JsonNode node, String path, List<ValidationMessage> messages) {\n");
+        if (schema != Schema.TRUE) {
+            writeGenericAssertions(schema, method);
+            writeStringAssertions(schema, method);
+            writeNumberAssertions(schema, method);
+            writeArrayAssertions(schema, method);
+            writeObjectAssertions(schema, method);
+            writeOneOfAssertions(schema, method);
+        }
+        method.append("    }\n");
+        return index;
+    }
+
+    private void writeGenericAssertions(Schema schema, StringBuilder method) {
+        if (schema.getType() != null && !schema.getType().isEmpty()) {
+            String types = schema.getType().stream()
+                .map(t -> ASSERTIONS + t.name())
+                .collect(Collectors.joining(" | "));
+            String expected = schema.getType().stream()
+                .map(t -> t.name().toLowerCase(Locale.ENGLISH))
+                .collect(Collectors.joining(", ", "[", "]"));
+            appendLine(method, ASSERTIONS + "type(node, path, " + types + ", " + quote(expected) + ", messages);");
+        }
+        if (schema.getConstValue() != null) {
+            String field = addField("JsonNode", "VALUE", ASSERTIONS + "parse(" + quote(toJson(schema.getConstValue())) + ")");
+            appendLine(method, ASSERTIONS + "constValue(node, path, " + field + ", messages);");
+        }
+        if (schema.getEnumValues() != null) {
+            String field = addField("JsonNode", "VALUE", ASSERTIONS + "parse(" + quote(toJson(schema.getEnumValues())) + ")");
+            appendLine(method, ASSERTIONS + "enumValues(node, path, " + field + ", messages);");
+        }
+    }
+
+    private void writeStringAssertions(Schema schema, StringBuilder method) {
+        if (schema.getMinLength() != null) {
+            appendLine(method, ASSERTIONS + "minLength(node, path, " + schema.getMinLength() + ", messages);");
+        }
+        if (schema.getMaxLength() != null) {
+            appendLine(method, ASSERTIONS + "maxLength(node, path, " + schema.getMaxLength() + ", messages);");
+        }
+        if (schema.getPattern() != null) {
+            String field = addField("Pattern", "PATTERN", "Pattern.compile(" + quote(schema.getPattern()) + ")");
+            appendLine(method, ASSERTIONS + "pattern(node, path, " + field + ", messages);");
+        }
+    }
+
+    private void writeNumberAssertions(Schema schema, StringBuilder method) {
+        writeNumberAssertion("minimum", schema.getMinimum(), method);
+        writeNumberAssertion("maximum", schema.getMaximum(), method);
+        writeNumberAssertion("exclusiveMinimum", schema.getExclusiveMinimum(), method);
+        writeNumberAssertion("exclusiveMaximum", schema.getExclusiveMaximum(), method);
+    }
+
+    private void writeNumberAssertion(String assertion, Object value, StringBuilder method) {
+        if (value == null) {
+            return;
+        }
+        String decimal = value instanceof BigDecimal bigDecimal ? bigDecimal.toPlainString() : value.toString();
+        String field = addField("BigDecimal", "DECIMAL", "new BigDecimal(" + quote(decimal) + ")");
+        appendLine(method, ASSERTIONS + assertion + "(node, path, " + field + ", messages);");
+    }
+
+    private void writeArrayAssertions(Schema schema, StringBuilder method) {
+        if (schema.getMinItems() != null) {
+            appendLine(method, ASSERTIONS + "minItems(node, path, " + schema.getMinItems() + ", messages);");
+        }
+        if (schema.getMaxItems() != null) {
+            appendLine(method, ASSERTIONS + "maxItems(node, path, " + schema.getMaxItems() + ", messages);");
+        }
+        if (Boolean.TRUE.equals(schema.isUniqueItems())) {
+            appendLine(method, ASSERTIONS + "uniqueItems(node, path, messages);");
+        }
+        if (schema.getItems() != null && schema.getItems() != Schema.TRUE) {
+            int items = writeMethod(schema.getItems());
+            appendLine(method, "if (node.isArray()) {");
+            appendLine(method, "    for (int i = 0; i < node.size(); ++i) {");
+            appendLine(method, "        " + METHOD_PREFIX + items + "(node.get(i), " + ASSERTIONS + "child(path, i), messages);");
+            appendLine(method, "    }");
+            appendLine(method, "}");
+        }
+    }
+
+    private void writeObjectAssertions(Schema schema, StringBuilder method) {
+        if (schema.getRequired() != null) {
+            for (String required : schema.getRequired()) {
+                appendLine(method, ASSERTIONS + "required(node, path, " + quote(required) + ", messages);");
+            }
+        }
+        Map<String, Schema> properties = schema.getProperties();
+        Schema additionalProperties = schema.getAdditionalProperties();
+        boolean hasProperties = properties != null && properties.values().stream().anyMatch(p -> p != Schema.TRUE);
+        boolean hasAdditionalProperties = additionalProperties != null && additionalProperties != Schema.TRUE;
+        if (!hasProperties && !hasAdditionalProperties) {
+            return;
+        }
+        appendLine(method, "if (node.isObject()) {");
+        if (hasProperties) {
+            appendLine(method, "    JsonNode value;");
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                if (property.getValue() == Schema.TRUE) {
+                    continue;
+                }
+                int propertyMethod = writeMethod(property.getValue());
+                String name = quote(property.getKey());
+                appendLine(method, "    value = node.get(" + name + ");");
+                appendLine(method, "    if (value != null) {");
+                appendLine(method, "        " + METHOD_PREFIX + propertyMethod + "(value, " + ASSERTIONS + "child(path, " + name + "), messages);");
+                appendLine(method, "    }");
+            }
+        }
+        if (hasAdditionalProperties) {
+            String names = properties == null ? "" : properties.keySet().stream()
+                .map(JsonSchemaValidatorWriter::quote)
+                .collect(Collectors.joining(", "));
+            String field = addField("Set<String>", "PROPERTIES", "Set.of(" + names + ")");
+            appendLine(method, "    Iterator<String> names = node.fieldNames();");
+            appendLine(method, "    while (names.hasNext()) {");
+            appendLine(method, "        String name = names.next();");
+            appendLine(method, "        if (!" + field + ".contains(name)) {");
+            if (additionalProperties == Schema.FALSE) {
+                appendLine(method, "            " + ASSERTIONS + "additionalProperty(path, name, messages);");
+            } else {
+                int additionalMethod = writeMethod(additionalProperties);
+                appendLine(method, "            " + METHOD_PREFIX + additionalMethod + "(node.get(name), " + ASSERTIONS + "child(path, name), messages);");
+            }
+            appendLine(method, "        }");
+            appendLine(method, "    }");
+        }
+        appendLine(method, "}");
+    }
+
+    private void writeOneOfAssertions(Schema schema, StringBuilder method) {
+        if (schema.getOneOf() == null || schema.getOneOf().isEmpty()) {
+            return;
+        }
+        appendLine(method, "int valid = 0;");
+        appendLine(method, "List<ValidationMessage> oneOfMessages = new ArrayList<>();");
+        appendLine(method, "List<ValidationMessage> schemaMessages = new ArrayList<>();");
+        for (Schema one : schema.getOneOf()) {
+            int oneMethod = writeMethod(one);
+            appendLine(method, METHOD_PREFIX + oneMethod + "(node, path, schemaMessages);");
+            appendLine(method, "if (schemaMessages.isEmpty()) {");
+            appendLine(method, "    ++valid;");
+            appendLine(method, "} else {");
+            appendLine(method, "    oneOfMessages.addAll(schemaMessages);");
+            appendLine(method, "    schemaMessages.clear();");
+            appendLine(method, "}");
+        }
+        appendLine(method, ASSERTIONS + "oneOf(path, valid, messages);");
+        appendLine(method, "if (valid == 0) {");
+        appendLine(method, "    messages.addAll(oneOfMessages);");
+        appendLine(method, "}");
+    }
+
+    private String addField(String type, String prefix, String initializer) {
+        String name = prefix + "_" + fieldCount++;
+        fields.append("    private static final ").append(type).append(' ').append(name)
+            .append(" = ").append(initializer).append(";\n");
+        return name;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed writing JSON schema constant " + value + ": " + e, e);
+        }
+    }
+
+    private static void appendLine(StringBuilder method, String line) {
+        method.append(INDENT).append(line).append('\n');
+    }
+
+    private static String quote(String value) {
+        StringBuilder result = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> result.append("\\\"");
+                case '\\' -> result.append("\\\\");
+                case '\n' -> result.append("\\n");
+                case '\r' -> result.append("\\r");
+                case '\t' -> result.append("\\t");
+                default -> {
+                    if (c < ' ') {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+                }
+            }
+        }
+        return result.append('"').toString();
+    }
+
+}
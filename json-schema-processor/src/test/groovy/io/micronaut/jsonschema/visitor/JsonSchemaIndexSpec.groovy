@@ -0,0 +1,93 @@
+package io.micronaut.jsonschema.visitor
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.micronaut.inject.visitor.TypeElementVisitor
+import io.micronaut.jsonschema.visitor.context.JsonSchemaContext
+
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+
+class JsonSchemaIndexSpec extends AbstractJsonSchemaSpec {
+
+    void setup() {
+        for (String parameter: JsonSchemaContext.getParameters()) {
+            System.clearProperty(parameter)
+        }
+    }
+
+    void "index has a line per type with the schema path and id"() {
+        given:
+        ClassLoader classLoader = buildClassLoader('test.Heron', """
+        package test;
+
+        import io.micronaut.jsonschema.JsonSchema;
+
+        @JsonSchema(uri = "/birds/grey-heron")
+        public record Heron(
+                String name,
+                Egret egret
+        ) {
+        }
+
+        @JsonSchema
+        record Egret(
+                String name
+        ) {
+        }
+""")
+
+        when:
+        List<String> lines = readResource(classLoader, "META-INF/" + JsonSchemaContext.INDEX_LOCATION).readLines()
+                .findAll { !it.startsWith('#') }
+        Map<String, List<String>> index = lines.collectEntries { line ->
+            List<String> fields = line.split('\t', -1) as List
+            [(fields[0]): fields]
+        }
+
+        then:
+        lines.size() == 2
+        index['test.Heron'][1] == 'META-INF/schemas/birds/grey-heron.schema.json'
+        index['test.Heron'][2] == 'http://localhost:8080/schemas/birds/grey-heron.schema.json'
+        index['test.Egret'][1] == 'META-INF/schemas/egret.schema.json'
+        index['test.Egret'][2] == 'http://localhost:8080/schemas/egret.schema.json'
+        new ObjectMapper().readValue(readResource(classLoader, index['test.Heron'][1]), Map).title == 'Heron'
+        index['test.Heron'][3] == Base64.urlEncoder.withoutPadding().encodeToString(MessageDigest.getInstance("SHA-256")
+                .digest(readResource(classLoader, index['test.Heron'][1]).getBytes(StandardCharsets.UTF_8)))
+    }
+
+    void "catalog has all the schemas by id"() {
+        given:
+        ClassLoader classLoader = buildClassLoader('test.Heron', """
+        package test;
+
+        import io.micronaut.jsonschema.JsonSchema;
+
+        @JsonSchema(uri = "/birds/grey-heron")
+        public record Heron(
+                String name,
+                Egret egret
+        ) {
+        }
+
+        @JsonSchema
+        record Egret(
+                String name
+        ) {
+        }
+""")
+
+        when:
+        Map<String, Map> catalog = new ObjectMapper().readValue(readResource(classLoader, "META-INF/" + JsonSchemaContext.CATALOG_LOCATION), Map)
+
+        then:
+        catalog.keySet() == ['http://localhost:8080/schemas/birds/grey-heron.schema.json', 'http://localhost:8080/schemas/egret.schema.json'] as Set
+        catalog['http://localhost:8080/schemas/birds/grey-heron.schema.json'] == new ObjectMapper().readValue(readResource(classLoader, 'META-INF/schemas/birds/grey-heron.schema.json'), Map)
+    }
+
+    void "only the index visitor is aggregating"() {
+        expect: 'the schemas are written per type, so that the compilation stays incremental'
+        new JsonSchemaVisitor().visitorKind == TypeElementVisitor.VisitorKind.ISOLATING
+        new JsonSchemaIndexVisitor().visitorKind == TypeElementVisitor.VisitorKind.AGGREGATING
+    }
+
+}
@@ -0,0 +1,123 @@
+package io.micronaut.jsonschema.visitor
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.micronaut.jsonschema.visitor.context.JsonSchemaContext
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Times the schema generation for many synthetic types.
+ * The number of generated models can be set with the {@code jsonschema.benchmark.models} system property,
+ * which the build forwards to the tests, for example to benchmark a large code base of 4000 types with
+ * {@code ./gradlew :micronaut-json-schema-processor:test --tests '*BenchmarkSpec' -Djsonschema.benchmark.models=1000}.
+ * Each model adds 4 types.
+ */
+class JsonSchemaProcessorBenchmarkSpec extends AbstractJsonSchemaSpec {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonSchemaProcessorBenchmarkSpec.class)
+    private static final int MODELS = Integer.getInteger("jsonschema.benchmark.models", 50)
+
+    void setup() {
+        for (String parameter: JsonSchemaContext.getParameters()) {
+            System.clearProperty(parameter)
+        }
+        System.setProperty(JsonSchemaContext.RECORD_TIMINGS_PARAMETER, "true")
+    }
+
+    void cleanup() {
+        System.clearProperty(JsonSchemaContext.RECORD_TIMINGS_PARAMETER)
+    }
+
+    void "schema generation is timed per aggregator"() {
+        given:
+        long start = System.nanoTime()
+        ClassLoader classLoader = buildClassLoader('test.Model0', generateModels(MODELS))
+        long compilationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+
+        when:
+        Map<String, Object> timings = new ObjectMapper()
+                .readValue(readResource(classLoader, "META-INF/" + JsonSchemaContext.TIMINGS_LOCATION), Map)
+        Map<String, Number> nanos = timings.nanos as Map<String, Number>
+        LOGGER.info("Compiled {} types with JSON schemas in {}ms", timings.types, compilationMillis)
+        nanos.each { step, time -> LOGGER.info("{}: {}ms", step, TimeUnit.NANOSECONDS.toMillis(time.longValue())) }
+
+        then:
+        timings.types == MODELS * 2
+        nanos.keySet().containsAll(['createSchema', 'writeSchema', 'JacksonInfoAggregator', 'ValidationInfoAggregator', 'DocumentationInfoAggregator'])
+    }
+
+    void "timings are not written by default"() {
+        given:
+        System.clearProperty(JsonSchemaContext.RECORD_TIMINGS_PARAMETER)
+        ClassLoader classLoader = buildClassLoader('test.Model0', generateModels(1))
+
+        expect:
+        classLoader.getResource("META-INF/" + JsonSchemaContext.TIMINGS_LOCATION) == null
+    }
+
+    private static String generateModels(int count) {
+        StringBuilder source = new StringBuilder("""
+        package test;
+
+        import com.fasterxml.jackson.annotation.JsonSubTypes;
+        import com.fasterxml.jackson.annotation.JsonTypeInfo;
+        import io.micronaut.jsonschema.JsonSchema;
+        import jakarta.validation.constraints.*;
+        import java.util.List;
+""")
+        for (int i = 0; i < count; ++i) {
+            source.append("""
+        /**
+         * A model.
+         *
+         * @param name The name
+         * @param count The count
+         * @param tags The tags
+         * @param animal The animal
+         */
+        @JsonSchema
+        record Model${i}(
+                @NotBlank @Size(max = 50) String name,
+                @Min(0) @Max(100) Integer count,
+                List<@Pattern(regexp = "^[a-z]+\$") String> tags,
+                Animal${i} animal
+        ) {
+        }
+
+        /**
+         * An animal.
+         */
+        @JsonSchema
+        @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+        @JsonSubTypes({
+            @JsonSubTypes.Type(value = Cat${i}.class, name = "cat"),
+            @JsonSubTypes.Type(value = Dog${i}.class, name = "dog")
+        })
+        interface Animal${i} {
+        }
+
+        /**
+         * A cat.
+         *
+         * @param name The name
+         * @param speed The speed
+         */
+        record Cat${i}(@NotNull String name, @Positive Float speed) implements Animal${i} {
+        }
+
+        /**
+         * A dog.
+         *
+         * @param name The name
+         * @param weight The weight
+         */
+        record Dog${i}(@NotNull String name, @DecimalMin("0.5") Double weight) implements Animal${i} {
+        }
+""")
+        }
+        return source.toString()
+    }
+
+}
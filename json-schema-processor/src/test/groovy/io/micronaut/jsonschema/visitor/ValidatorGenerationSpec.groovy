@@ -0,0 +1,110 @@
+package io.micronaut.jsonschema.visitor
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.micronaut.jsonschema.validation.GeneratedJsonSchemaValidator
+import io.micronaut.jsonschema.validation.ValidationMessage
+import io.micronaut.jsonschema.visitor.context.JsonSchemaContext
+
+class ValidatorGenerationSpec extends AbstractJsonSchemaSpec {
+
+    void cleanup() {
+        System.clearProperty(JsonSchemaContext.GENERATE_VALIDATORS_PARAMETER)
+    }
+
+    void "validator is generated for a supported schema"() {
+        given:
+        System.setProperty(JsonSchemaContext.GENERATE_VALIDATORS_PARAMETER, "true")
+        ClassLoader classLoader = buildClassLoader('test.Salamander', """
+        package test;
+
+        import io.micronaut.jsonschema.JsonSchema;
+        import jakarta.validation.constraints.*;
+        import java.util.List;
+
+        @JsonSchema
+        public record Salamander(
+                @NotBlank String name,
+                @PositiveOrZero int age,
+                @Size(min = 1, max = 2) List<String> colors,
+                @Pattern(regexp = "^[a-z]+\$") String nickname,
+                @DecimalMax(value = "10.5", inclusive = false) Double weight,
+                Color color
+        ) {
+        }
+
+        enum Color {
+            RED,
+            GREEN
+        }
+""")
+        GeneratedJsonSchemaValidator validator = classLoader.loadClass('test.$Salamander$JsonSchemaValidator')
+                .getDeclaredConstructor().newInstance() as GeneratedJsonSchemaValidator
+
+        expect:
+        validate(validator, '{"name":"Bob","age":1,"colors":["red"],"nickname":"bob","weight":1.5,"color":"RED"}').isEmpty()
+        validate(validator, json) == [message]
+
+        where:
+        json                                 | message
+        '{"age":1,"name":""}'                | "/name: must be at least 1 characters long"
+        '{"age":-1}'                         | "/age: must have a minimum value of 0"
+        '{"age":1.5}'                        | "/age: number found, [integer] expected"
+        '{}'                                 | ": required property 'age' not found"
+        '{"age":1,"colors":[]}'              | "/colors: must have at least 1 items but found 0"
+        '{"age":1,"colors":[1]}'             | "/colors/0: integer found, [string] expected"
+        '{"age":1,"nickname":"Bob"}'         | "/nickname: does not match the regex pattern ^[a-z]+\$"
+        '{"age":1,"weight":10.5}'            | "/weight: must have an exclusive maximum value of 10.5"
+        '{"age":1,"color":"BLUE"}'           | "/color: does not have a value in the enumeration [RED, GREEN]"
+    }
+
+    void "validator is not generated for a schema with references"() {
+        given:
+        System.setProperty(JsonSchemaContext.GENERATE_VALIDATORS_PARAMETER, "true")
+        ClassLoader classLoader = buildClassLoader('test.Possum', """
+        package test;
+
+        import io.micronaut.jsonschema.JsonSchema;
+        import java.util.List;
+
+        @JsonSchema
+        public record Possum(
+                List<Possum> children
+        ) {
+        }
+""")
+
+        when:
+        classLoader.loadClass('test.$Possum$JsonSchemaValidator')
+
+        then:
+        thrown(ClassNotFoundException)
+    }
+
+    void "validator is not generated by default"() {
+        given:
+        ClassLoader classLoader = buildClassLoader('test.Llama', """
+        package test;
+
+        import io.micronaut.jsonschema.JsonSchema;
+
+        @JsonSchema
+        public record Llama(
+                String name
+        ) {
+        }
+""")
+
+        when:
+        classLoader.loadClass('test.$Llama$JsonSchemaValidator')
+
+        then:
+        thrown(ClassNotFoundException)
+    }
+
+    private static List<String> validate(GeneratedJsonSchemaValidator validator, String json) {
+        List<ValidationMessage> messages = []
+        validator.validate(new ObjectMapper().readTree(json), "", messages)
+        return messages*.message
+    }
+
+}
@@ -3,6 +3,11 @@ plugins {
 }
 dependencies {
     api(mn.micronaut.json.core)
+    api(mn.micronaut.core.reactive)
+    implementation(mn.micronaut.context)
+    compileOnly(mn.micronaut.management)
+    compileOnly(mnMicrometer.micronaut.micrometer.core)
+    compileOnly(mn.micronaut.http.server)
     api(projects.micronautJsonSchemaAnnotations)
     api(libs.managed.json.schema.validator)
 
@@ -19,6 +24,32 @@ dependencies {
     testAnnotationProcessor(mn.micronaut.inject.java)
     testImplementation(libs.junit.jupiter.api)
     testImplementation(mnTest.micronaut.test.junit5)
+    testImplementation(mn.micronaut.management)
+    testImplementation(mnMicrometer.micronaut.micrometer.core)
+    testImplementation(mn.micronaut.http.server.netty)
+    testImplementation(mn.micronaut.http.client)
     testRuntimeOnly(libs.junit.jupiter.engine)
     testImplementation(libs.junit.jupiter.params)
 }
+
+// The types of these tests are compiled with generated validators, which the other tests do not use
+val generatedValidatorsTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.test.get().compileClasspath
+    runtimeClasspath += output + compileClasspath + sourceSets.test.get().runtimeClasspath
+}
+configurations.named(generatedValidatorsTest.annotationProcessorConfigurationName) {
+    extendsFrom(configurations.testAnnotationProcessor.get())
+}
+tasks.named<JavaCompile>(generatedValidatorsTest.compileJavaTaskName) {
+    options.compilerArgs.add("-Amicronaut.jsonschema.generateValidators=true")
+}
+val generatedValidatorsTestTask = tasks.register<Test>("generatedValidatorsTest") {
+    description = "Runs the tests of the generated JSON schema validators."
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    testClassesDirs = generatedValidatorsTest.output.classesDirs
+    classpath = generatedValidatorsTest.runtimeClasspath
+    useJUnitPlatform()
+}
+tasks.named("check") {
+    dependsOn(generatedValidatorsTestTask)
+}
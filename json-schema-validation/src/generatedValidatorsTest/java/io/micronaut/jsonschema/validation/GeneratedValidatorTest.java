@@ -0,0 +1,56 @@
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+class GeneratedValidatorTest {
+    @Inject
+    JsonSchemaValidator validator;
+
+    @Inject
+    JsonSchemaRegistry registry;
+
+    @Test
+    void validatorIsGenerated() throws ClassNotFoundException {
+        Class<?> validatorClass = Class.forName(Newt.class.getPackageName() + ".$Newt$JsonSchemaValidator");
+        assertTrue(GeneratedJsonSchemaValidator.class.isAssignableFrom(validatorClass));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "{\"name\":\"Nina\",\"age\":1,\"colors\":[\"red\"],\"nickname\":\"nina\",\"weight\":1.5,\"habitat\":\"POND\"}",
+        "{\"name\":\"\",\"age\":1}",
+        "{\"age\":-1}",
+        "{\"age\":1.5}",
+        "{}",
+        "{\"age\":1,\"colors\":[]}",
+        "{\"age\":1,\"colors\":[\"red\",\"green\",\"blue\"]}",
+        "{\"age\":1,\"colors\":[1]}",
+        "{\"age\":1,\"nickname\":\"Nina\"}",
+        "{\"age\":1,\"weight\":10.5}",
+        "{\"age\":1,\"habitat\":\"SEA\"}",
+        "{\"name\":1,\"age\":\"one\",\"colors\":{},\"habitat\":null}",
+        "[]"
+    })
+    void messagesMatchTheSchemaValidator(String json) throws IOException {
+        Set<String> expected = registry.getSchema(Newt.class).validate(new ObjectMapper().readTree(json)).stream()
+            .map(com.networknt.schema.ValidationMessage::getMessage)
+            .collect(Collectors.toSet());
+        Set<String> messages = validator.validate(json, Newt.class).stream()
+            .map(ValidationMessage::getMessage)
+            .collect(Collectors.toSet());
+        assertEquals(expected, messages);
+    }
+}
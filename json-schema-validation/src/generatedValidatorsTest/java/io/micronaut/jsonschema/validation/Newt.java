@@ -0,0 +1,39 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.jsonschema.JsonSchema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * A newt, whose schema only has keywords supported by the generated validators.
+ *
+ * @param name The name
+ * @param age The age
+ * @param colors The colors
+ * @param nickname The nickname
+ * @param weight The weight
+ * @param habitat The habitat
+ */
+@JsonSchema
+public record Newt(
+    @NotBlank String name,
+    @PositiveOrZero int age,
+    @Size(min = 1, max = 2) List<String> colors,
+    @Pattern(regexp = "^[a-z]+$") String nickname,
+    @DecimalMax(value = "10.5", inclusive = false) Double weight,
+    Habitat habitat
+) {
+
+    /**
+     * The habitat.
+     */
+    public enum Habitat {
+        POND,
+        STREAM
+    }
+}
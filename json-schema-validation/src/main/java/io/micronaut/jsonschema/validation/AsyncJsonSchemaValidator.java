@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.annotation.DefaultImplementation;
+import io.micronaut.core.annotation.NonNull;
+import org.reactivestreams.Publisher;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A non-blocking variant of {@link JsonSchemaValidator}.
+ * The validation, including the loading of the JSON schema on the first validation of a type, runs on
+ * the executor configured with {@link JsonSchemaValidatorConfiguration#executor()}, so it never blocks
+ * the calling thread.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@DefaultImplementation(DefaultAsyncJsonSchemaValidator.class)
+public interface AsyncJsonSchemaValidator {
+
+    /**
+     * Validate JSON based on a types JSON schema.
+     *
+     * @param value JSON value to validate
+     * @param type The type used to generate the JSON Schema
+     * @return A future completed with a set of validation messages, empty if valid
+     * @param <T> Type used to generate the JSON Schema
+     */
+    @NonNull
+    <T> CompletableFuture<Set<? extends ValidationMessage>> validate(@NonNull String value, @NonNull Class<T> type);
+
+    /**
+     * Validate UTF-8 encoded JSON based on a types JSON schema.
+     *
+     * @param value The UTF-8 encoded JSON value to validate
+     * @param type The type used to generate the JSON Schema
+     * @return A future completed with a set of validation messages, empty if valid
+     * @param <T> Type used to generate the JSON Schema
+     */
+    @NonNull
+    <T> CompletableFuture<Set<? extends ValidationMessage>> validate(@NonNull byte[] value, @NonNull Class<T> type);
+
+    /**
+     * Validate Object based on types JSON schema.
+     *
+     * @param value Object to validate against a JSON schema
+     * @param type The type used to generate the JSON Schema
+     * @return A future completed with a set of validation messages, empty if valid
+     * @param <T> Type used to generate the JSON Schema
+     */
+    @NonNull
+    <T> CompletableFuture<Set<? extends ValidationMessage>> validate(@NonNull Object value, @NonNull Class<T> type);
+
+    /**
+     * Check whether an object is valid based on a types JSON schema.
+     *
+     * @param value Object to check against a JSON schema
+     * @param type The type used to generate the JSON Schema
+     * @return A future completed with whether the value is valid
+     * @param <T> Type used to generate the JSON Schema
+     */
+    @NonNull
+    <T> CompletableFuture<Boolean> isValid(@NonNull Object value, @NonNull Class<T> type);
+
+    /**
+     * Validate each element of a reactive stream based on a types JSON schema.
+     * The elements are validated as objects, like with {@link #validate(Object, Class)}.
+     * The returned publisher emits the elements in the same order once they are validated.
+     * It fails with a {@link JsonSchemaValidationException} at the first invalid element and
+     * cancels the source publisher.
+     *
+     * @param publisher The publisher of the elements to validate
+     * @param type The type used to generate the JSON Schema
+     * @return The publisher of the validated elements
+     * @param <T> The type of the elements
+     */
+    @NonNull
+    <T> Publisher<T> validateEach(@NonNull Publisher<T> publisher, @NonNull Class<? super T> type);
+
+}
@@ -0,0 +1,618 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonIncludeProperties;
+import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.json.JsonMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A converter of objects to JSON nodes that reads the property values through
+ * {@link BeanIntrospection}, so that objects can be validated without writing them as JSON text.
+ * The Jackson renames, ignores and unwraps are applied in the same way as when the JSON schema is generated.
+ *
+ * <p>The converter only writes what the application {@link JsonMapper} would write.
+ * The settings of the mapper, such as the inclusion of nulls, the format of dates and the naming strategy,
+ * are found by serializing a probe object with the mapper, and the values that the converter cannot write
+ * in the same way are not converted. The beans with Jackson annotations that change the serialization in
+ * other ways, for example {@link JsonTypeInfo}, {@link JsonInclude} or {@link JsonFormat}, are not converted either.
+ * If an object cannot be converted, the conversion fails and the object must be serialized instead.</p>
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+final class BeanIntrospectionJsonNodeConverter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BeanIntrospectionJsonNodeConverter.class);
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String MEMBER_PREFIX = "prefix";
+    private static final String MEMBER_SUFFIX = "suffix";
+    private static final String MEMBER_ENABLED = "enabled";
+    /**
+     * The annotations of beans and properties that change the serialization in ways that the converter does not reproduce.
+     */
+    private static final List<Class<? extends Annotation>> UNSUPPORTED_ANNOTATIONS = List.of(
+        JsonTypeInfo.class, JsonSubTypes.class, JsonInclude.class, JsonFormat.class, JsonSerialize.class,
+        JsonValue.class, JsonNaming.class, JsonRawValue.class, JsonView.class, JsonFilter.class,
+        JsonIdentityInfo.class, JsonAutoDetect.class, JsonManagedReference.class, JsonBackReference.class
+    );
+
+    private final Supplier<MapperSettings> settings;
+    // A class value does not keep the classes, and their class loaders, from being unloaded
+    private final ClassValue<Optional<BeanWriter>> beanWriters = new ClassValue<>() {
+        @Override
+        protected Optional<BeanWriter> computeValue(Class<?> type) {
+            return createWriter(type);
+        }
+    };
+    private final ClassValue<Boolean> plainEnums = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isPlainEnum(type);
+        }
+    };
+
+    /**
+     * @param jsonMapper The mapper that serializes the objects which cannot be converted, whose settings are reproduced
+     */
+    BeanIntrospectionJsonNodeConverter(@NonNull JsonMapper jsonMapper) {
+        this.settings = SupplierUtil.memoized(() -> MapperSettings.probe(jsonMapper));
+    }
+
+    /**
+     * Convert an object to a JSON node.
+     *
+     * @param value The object
+     * @param type The type used to generate the JSON schema
+     * @return The JSON node or empty if the object cannot be converted
+     */
+    @NonNull
+    Optional<JsonNode> convert(@NonNull Object value, @NonNull Class<?> type) {
+        MapperSettings mapperSettings = settings.get();
+        if (!mapperSettings.enabled()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(toNode(value, Argument.of(type), mapperSettings));
+        } catch (UnsupportedValueException e) {
+            LOG.debug("Object of type {} cannot be validated through introspection: {}", type, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private JsonNode toNode(Object value, Argument<?> argument, MapperSettings mapperSettings) {
+        if (value == null) {
+            return NullNode.getInstance();
+        }
+        if (value instanceof Optional<?> optional) {
+            return optional.isPresent()
+                ? toNode(optional.get(), argument.getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT), mapperSettings)
+                : NullNode.getInstance();
+        }
+        if (value instanceof CharSequence || value instanceof Character) {
+            return TextNode.valueOf(value.toString());
+        }
+        if (value instanceof Boolean bool) {
+            return NODE_FACTORY.booleanNode(bool);
+        }
+        if (value instanceof Number number) {
+            return toNumberNode(number);
+        }
+        if (value instanceof Enum<?> enumValue) {
+            if (!mapperSettings.enumsByName() || !plainEnums.get(enumValue.getDeclaringClass())) {
+                throw new UnsupportedValueException("The enum " + enumValue.getDeclaringClass() + " is not written by its name");
+            }
+            return TextNode.valueOf(enumValue.name());
+        }
+        if (value instanceof byte[] bytes) {
+            return TextNode.valueOf(Base64.getEncoder().encodeToString(bytes));
+        }
+        JsonNode temporalNode = toTemporalNode(value);
+        if (temporalNode != null) {
+            if (!mapperSettings.temporalTypes().contains(value.getClass())) {
+                throw new UnsupportedValueException("The mapper writes " + value.getClass() + " in another format");
+            }
+            return temporalNode;
+        }
+        if (value instanceof UUID || value instanceof URI || value instanceof URL) {
+            return TextNode.valueOf(value.toString());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return toMapNode(map, argument.getTypeVariable("V").orElse(Argument.OBJECT_ARGUMENT), mapperSettings);
+        }
+        if (value instanceof Iterable<?> iterable) {
+            Argument<?> itemArgument = argument.getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
+            ArrayNode node = NODE_FACTORY.arrayNode();
+            for (Object item : iterable) {
+                node.add(toNode(item, itemArgument, mapperSettings));
+            }
+            return node;
+        }
+        if (value.getClass().isArray()) {
+            Argument<?> itemArgument = Argument.of(value.getClass().getComponentType());
+            ArrayNode node = NODE_FACTORY.arrayNode();
+            for (int i = 0; i < Array.getLength(value); ++i) {
+                node.add(toNode(Array.get(value, i), itemArgument, mapperSettings));
+            }
+            return node;
+        }
+        if (value instanceof TemporalAccessor || value instanceof TemporalAmount || value instanceof Date) {
+            throw new UnsupportedValueException("The format of " + value.getClass() + " is not known");
+        }
+        return toObjectNode(value, mapperSettings);
+    }
+
+    private ObjectNode toMapNode(Map<?, ?> map, Argument<?> valueArgument, MapperSettings mapperSettings) {
+        ObjectNode node = NODE_FACTORY.objectNode();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object entryValue = entry.getValue();
+            if (entryValue == null ? !mapperSettings.writesNullMapValues() : !mapperSettings.writesEmptyMapValues() && isEmpty(entryValue)) {
+                continue;
+            }
+            node.set(String.valueOf(entry.getKey()), toNode(entryValue, valueArgument, mapperSettings));
+        }
+        return node;
+    }
+
+    /**
+     * Write a date or a time as the mapper does when it is configured with the default date settings of Jackson,
+     * which are the ISO formats of the {@code JavaTimeModule} for the text formats and the milliseconds since the epoch
+     * for {@link Date}.
+     * The {@code toString()} methods omit the seconds when they are zero and append the zone id, so they are not used.
+     *
+     * @return The JSON node or null if the value is not a date or a time that can be written
+     */
+    @Nullable
+    private static JsonNode toTemporalNode(Object value) {
+        if (value instanceof ZonedDateTime || value instanceof OffsetDateTime) {
+            return TextNode.valueOf(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format((TemporalAccessor) value));
+        } else if (value instanceof LocalDateTime localDateTime) {
+            return TextNode.valueOf(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(localDateTime));
+        } else if (value instanceof LocalDate localDate) {
+            return TextNode.valueOf(DateTimeFormatter.ISO_LOCAL_DATE.format(localDate));
+        } else if (value instanceof LocalTime localTime) {
+            return TextNode.valueOf(DateTimeFormatter.ISO_LOCAL_TIME.format(localTime));
+        } else if (value instanceof OffsetTime offsetTime) {
+            return TextNode.valueOf(DateTimeFormatter.ISO_OFFSET_TIME.format(offsetTime));
+        } else if (value instanceof Instant instant) {
+            return TextNode.valueOf(DateTimeFormatter.ISO_INSTANT.format(instant));
+        } else if (value instanceof Duration || value instanceof Period) {
+            return TextNode.valueOf(value.toString());
+        } else if (value instanceof Date date) {
+            return NODE_FACTORY.numberNode(date.getTime());
+        }
+        return null;
+    }
+
+    private static JsonNode toNumberNode(Number number) {
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return NODE_FACTORY.numberNode(number.intValue());
+        } else if (number instanceof Long) {
+            return NODE_FACTORY.numberNode(number.longValue());
+        } else if (number instanceof Double) {
+            return NODE_FACTORY.numberNode(number.doubleValue());
+        } else if (number instanceof Float) {
+            // Keep the shortest decimal representation, as it is serialized
+            return NODE_FACTORY.numberNode(new BigDecimal(number.toString()));
+        } else if (number instanceof BigInteger bigInteger) {
+            return NODE_FACTORY.numberNode(bigInteger);
+        } else if (number instanceof BigDecimal bigDecimal) {
+            return NODE_FACTORY.numberNode(bigDecimal);
+        }
+        return NODE_FACTORY.numberNode(new BigDecimal(number.toString()));
+    }
+
+    private ObjectNode toObjectNode(Object value, MapperSettings mapperSettings) {
+        Class<?> valueType = value.getClass();
+        BeanWriter writer = beanWriters.get(valueType)
+            .orElseThrow(() -> new UnsupportedValueException("No bean introspection or unsupported Jackson annotations for " + valueType));
+        ObjectNode node = NODE_FACTORY.objectNode();
+        for (PropertyWriter property : writer.properties()) {
+            Object propertyValue = property.property().get(value);
+            if (propertyValue == null) {
+                if (mapperSettings.writesNulls() && property.unwrapPrefix() == null && !property.anyGetter()) {
+                    node.set(property.name(), NullNode.getInstance());
+                }
+                continue;
+            }
+            if (propertyValue instanceof Optional<?> optional && optional.isEmpty() && !mapperSettings.writesAbsent()) {
+                continue;
+            }
+            if (!mapperSettings.writesEmpty() && isEmpty(propertyValue)) {
+                continue;
+            }
+            if (property.anyGetter() && propertyValue instanceof Map<?, ?> map) {
+                node.setAll(toMapNode(map, property.property().asArgument().getTypeVariable("V").orElse(Argument.OBJECT_ARGUMENT), mapperSettings));
+                continue;
+            }
+            JsonNode propertyNode = toNode(propertyValue, property.property().asArgument(), mapperSettings);
+            if (property.unwrapPrefix() != null && propertyNode instanceof ObjectNode objectNode) {
+                objectNode.fields().forEachRemaining(field ->
+                    node.set(property.unwrapPrefix() + field.getKey() + property.unwrapSuffix(), field.getValue())
+                );
+            } else {
+                node.set(property.name(), propertyNode);
+            }
+        }
+        return node;
+    }
+
+    private static boolean isEmpty(Object value) {
+        return (value instanceof CharSequence text && text.isEmpty())
+            || (value instanceof Collection<?> collection && collection.isEmpty())
+            || (value instanceof Map<?, ?> map && map.isEmpty())
+            || (value instanceof Optional<?> optional && optional.isEmpty())
+            || (value.getClass().isArray() && Array.getLength(value) == 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<BeanWriter> createWriter(Class<?> type) {
+        Optional<BeanIntrospection<Object>> introspectionOptional = BeanIntrospector.SHARED.findIntrospection((Class<Object>) type);
+        if (introspectionOptional.isEmpty() || hasTypeInfo(type) || hasUnsupportedAnnotation(introspectionOptional.get())) {
+            return Optional.empty();
+        }
+        BeanIntrospection<Object> introspection = introspectionOptional.get();
+        Set<String> ignoreProperties = introspection.hasAnnotation(JsonIgnoreProperties.class)
+            ? Arrays.stream(introspection.stringValues(JsonIgnoreProperties.class)).collect(Collectors.toSet())
+            : null;
+        Set<String> includeProperties = introspection.hasAnnotation(JsonIncludeProperties.class)
+            ? Arrays.stream(introspection.stringValues(JsonIncludeProperties.class)).collect(Collectors.toSet())
+            : null;
+
+        List<PropertyWriter> properties = new ArrayList<>();
+        for (BeanProperty<Object, Object> property : introspection.getBeanProperties()) {
+            if (property.isWriteOnly()) {
+                continue;
+            }
+            if (hasUnsupportedAnnotation(property)) {
+                return Optional.empty();
+            }
+            String name = propertyName(property);
+            if ((property.hasAnnotation(JsonIgnore.class) && property.booleanValue(JsonIgnore.class).orElse(true))
+                || isIgnoredType(property.getType())
+                || (ignoreProperties != null && ignoreProperties.contains(name))
+                || (includeProperties != null && !includeProperties.contains(name))
+            ) {
+                continue;
+            }
+            boolean unwrapped = property.hasAnnotation(JsonUnwrapped.class)
+                && property.booleanValue(JsonUnwrapped.class, MEMBER_ENABLED).orElse(true);
+            properties.add(new PropertyWriter(
+                name,
+                property,
+                unwrapped ? property.stringValue(JsonUnwrapped.class, MEMBER_PREFIX).orElse("") : null,
+                unwrapped ? property.stringValue(JsonUnwrapped.class, MEMBER_SUFFIX).orElse("") : null,
+                property.hasAnnotation(JsonAnyGetter.class)
+            ));
+        }
+        return Optional.of(new BeanWriter(properties));
+    }
+
+    private static boolean hasUnsupportedAnnotation(AnnotationMetadata annotationMetadata) {
+        for (Class<? extends Annotation> annotation : UNSUPPORTED_ANNOTATIONS) {
+            if (annotationMetadata.hasAnnotation(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether Jackson writes a type id for the type, which it does when the type or one of its super types
+     * is annotated with {@link JsonTypeInfo}, whatever the declared type of the value is.
+     */
+    private static boolean hasTypeInfo(Class<?> type) {
+        if (type == null || type == Object.class) {
+            return false;
+        }
+        if (type.isAnnotationPresent(JsonTypeInfo.class)) {
+            return true;
+        }
+        for (Class<?> superInterface : type.getInterfaces()) {
+            if (hasTypeInfo(superInterface)) {
+                return true;
+            }
+        }
+        return hasTypeInfo(type.getSuperclass());
+    }
+
+    /**
+     * Whether an enum is written by the names of its constants, without a {@link JsonValue} method
+     * or a {@link JsonProperty} rename.
+     */
+    private static boolean isPlainEnum(Class<?> type) {
+        for (Method method : type.getMethods()) {
+            if (method.isAnnotationPresent(JsonValue.class)) {
+                return false;
+            }
+        }
+        for (Object constant : type.getEnumConstants()) {
+            try {
+                if (type.getField(((Enum<?>) constant).name()).isAnnotationPresent(JsonProperty.class)) {
+                    return false;
+                }
+            } catch (NoSuchFieldException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String propertyName(BeanProperty<?, ?> property) {
+        return property.stringValue(JsonProperty.class).filter(n -> !n.isEmpty())
+            .or(() -> property.stringValue(JsonGetter.class).filter(n -> !n.isEmpty()))
+            .or(() -> property.stringValue(JsonSetter.class).filter(n -> !n.isEmpty()))
+            .orElse(property.getName());
+    }
+
+    private static boolean isIgnoredType(Class<?> type) {
+        return BeanIntrospector.SHARED.findIntrospection(type)
+            .map(i -> i.hasAnnotation(JsonIgnoreType.class))
+            .orElse(false);
+    }
+
+    /**
+     * The properties of a bean that are written to the JSON node.
+     *
+     * @param properties The properties
+     */
+    private record BeanWriter(
+        List<PropertyWriter> properties
+    ) {
+    }
+
+    /**
+     * A property of a bean that is written to the JSON node.
+     *
+     * @param name The JSON property name
+     * @param property The bean property
+     * @param unwrapPrefix The prefix of the names of the unwrapped properties, or null if the property is not annotated with {@link JsonUnwrapped}
+     * @param unwrapSuffix The suffix of the names of the unwrapped properties, or null if the property is not annotated with {@link JsonUnwrapped}
+     * @param anyGetter Whether the property is annotated with {@link JsonAnyGetter}
+     */
+    private record PropertyWriter(
+        String name,
+        BeanProperty<Object, Object> property,
+        @Nullable String unwrapPrefix,
+        @Nullable String unwrapSuffix,
+        boolean anyGetter
+    ) {
+    }
+
+    /**
+     * The serialization settings of the application mapper that the converter reproduces.
+     *
+     * @param enabled Whether objects can be converted at all, which is not the case when the mapper renames
+     *                the properties or leaves out default values
+     * @param writesNulls Whether the null properties are written
+     * @param writesAbsent Whether the empty optional properties are written as null
+     * @param writesEmpty Whether the empty properties, such as empty strings and collections, are written
+     * @param writesNullMapValues Whether the null values of maps are written
+     * @param writesEmptyMapValues Whether the empty values of maps are written
+     * @param enumsByName Whether the enums are written by the names of their constants
+     * @param temporalTypes The date and time types that are written in the format of {@link #toTemporalNode(Object)}
+     */
+    private record MapperSettings(
+        boolean enabled,
+        boolean writesNulls,
+        boolean writesAbsent,
+        boolean writesEmpty,
+        boolean writesNullMapValues,
+        boolean writesEmptyMapValues,
+        boolean enumsByName,
+        Set<Class<?>> temporalTypes
+    ) {
+
+        private static final MapperSettings DISABLED = new MapperSettings(false, false, false, false, false, false, false, Set.of());
+
+        /**
+         * Find the settings of a mapper by serializing the probe with it.
+         */
+        static MapperSettings probe(JsonMapper jsonMapper) {
+            JsonNode node;
+            try {
+                node = OBJECT_MAPPER.readTree(jsonMapper.writeValueAsBytes(Probe.INSTANCE));
+            } catch (IOException | RuntimeException e) {
+                LOG.debug("The JSON mapper cannot write the probe, objects are serialized before validation", e);
+                return DISABLED;
+            }
+            if (!Probe.CAMEL_CASE_VALUE.equals(node.path("camelCaseValue").asText(null)) || !node.has("zeroValue")) {
+                LOG.debug("The JSON mapper renames properties or leaves out default values, objects are serialized before validation: {}", node);
+                return DISABLED;
+            }
+            JsonNode absentValue = node.get("absentValue");
+            if (absentValue != null && !absentValue.isNull()) {
+                LOG.debug("The JSON mapper does not write optional values, objects are serialized before validation: {}", node);
+                return DISABLED;
+            }
+            Set<Class<?>> temporalTypes = new HashSet<>();
+            for (Map.Entry<String, Object> temporal : Probe.INSTANCE.temporals().entrySet()) {
+                if (temporalsEqual(node.path("temporals").get(temporal.getKey()), toTemporalNode(temporal.getValue()))) {
+                    temporalTypes.add(temporal.getValue().getClass());
+                }
+            }
+            JsonNode mapValue = node.path("mapValue");
+            return new MapperSettings(
+                true,
+                node.has("nullValue"),
+                absentValue != null,
+                node.has("emptyValue"),
+                mapValue.has("null"),
+                mapValue.has("empty"),
+                Probe.ProbeEnum.VALUE.name().equals(node.path("enumValue").asText(null)),
+                Set.copyOf(temporalTypes)
+            );
+        }
+
+        private static boolean temporalsEqual(@Nullable JsonNode written, JsonNode converted) {
+            if (written == null) {
+                return false;
+            }
+            if (written.isNumber() && converted.isNumber()) {
+                return written.decimalValue().compareTo(converted.decimalValue()) == 0;
+            }
+            return written.equals(converted);
+        }
+    }
+
+    /**
+     * An object whose serialization shows the settings of a mapper.
+     *
+     * @param nullValue A null value
+     * @param absentValue An empty optional value
+     * @param emptyValue An empty value
+     * @param zeroValue A default value
+     * @param camelCaseValue A value whose name is changed by naming strategies
+     * @param enumValue An enum value whose {@code toString()} is not its name
+     * @param mapValue A map with a null and an empty value
+     * @param temporals Dates and times by their type name, in a map that is not subject to the inclusion settings
+     */
+    @Introspected
+    record Probe(
+        String nullValue,
+        Optional<String> absentValue,
+        List<String> emptyValue,
+        int zeroValue,
+        String camelCaseValue,
+        ProbeEnum enumValue,
+        Map<String, Object> mapValue,
+        Map<String, Object> temporals
+    ) {
+
+        static final String CAMEL_CASE_VALUE = "value";
+        static final Probe INSTANCE = create();
+
+        private static Probe create() {
+            Map<String, Object> mapValue = new LinkedHashMap<>();
+            mapValue.put("null", null);
+            mapValue.put("empty", List.of());
+            Map<String, Object> temporals = new LinkedHashMap<>();
+            // The seconds are zero and the offsets are not UTC, so that other formats and time zones are told apart
+            temporals.put("localDate", LocalDate.of(2024, 1, 1));
+            temporals.put("localTime", LocalTime.of(10, 0));
+            temporals.put("localDateTime", LocalDateTime.of(2024, 1, 1, 10, 0));
+            temporals.put("offsetDateTime", OffsetDateTime.of(2024, 1, 1, 10, 0, 0, 0, ZoneOffset.ofHours(2)));
+            temporals.put("offsetTime", OffsetTime.of(10, 0, 0, 0, ZoneOffset.ofHours(2)));
+            temporals.put("zonedDateTime", ZonedDateTime.of(2024, 6, 1, 8, 30, 0, 0, ZoneId.of("Europe/Paris")));
+            temporals.put("instant", Instant.parse("2024-01-01T10:00:00Z"));
+            temporals.put("duration", Duration.ofMinutes(90));
+            temporals.put("period", Period.ofDays(3));
+            temporals.put("date", new Date(1_704_103_200_000L));
+            return new Probe(null, Optional.empty(), List.of(), 0, CAMEL_CASE_VALUE, ProbeEnum.VALUE, mapValue, temporals);
+        }
+
+        /**
+         * An enum whose {@code toString()} differs from its name.
+         */
+        enum ProbeEnum {
+            VALUE;
+
+            @Override
+            public String toString() {
+                return "value";
+            }
+        }
+    }
+
+    /**
+     * An exception signifying that the value cannot be converted through introspection.
+     */
+    private static final class UnsupportedValueException extends RuntimeException {
+        UnsupportedValueException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * An incremental validation that buffers the chunks and validates the whole JSON once the input is complete.
+ * It is used when the JSON cannot be validated while it is being read.
+ *
+ * @param <T> Type used to generate the JSON Schema
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+final class BufferedIncrementalValidation<T> implements IncrementalValidation {
+
+    private final JsonSchemaValidator validator;
+    private final Class<T> type;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    BufferedIncrementalValidation(JsonSchemaValidator validator, Class<T> type) {
+        this.validator = validator;
+        this.type = type;
+    }
+
+    @Override
+    public boolean feed(@NonNull byte[] chunk, int offset, int length) {
+        buffer.write(chunk, offset, length);
+        return true;
+    }
+
+    @Override
+    @NonNull
+    public Set<? extends ValidationMessage> complete() throws IOException {
+        return validator.validate(buffer.toByteArray(), type);
+    }
+}
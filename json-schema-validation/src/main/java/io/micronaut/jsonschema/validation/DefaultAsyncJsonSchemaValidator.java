@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * The default implementation of {@link AsyncJsonSchemaValidator} that runs the
+ * {@link JsonSchemaValidator} on the configured executor.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Singleton
+@Internal
+final class DefaultAsyncJsonSchemaValidator implements AsyncJsonSchemaValidator {
+
+    private final JsonSchemaValidator validator;
+    private final Supplier<ExecutorService> executor;
+
+    DefaultAsyncJsonSchemaValidator(
+            JsonSchemaValidator validator,
+            JsonSchemaValidatorConfiguration config,
+            BeanLocator beanLocator
+    ) {
+        this.validator = validator;
+        this.executor = SupplierUtil.memoized(() -> beanLocator.getBean(ExecutorService.class, Qualifiers.byName(config.executor())));
+    }
+
+    @Override
+    @NonNull
+    public <T> CompletableFuture<Set<? extends ValidationMessage>> validate(@NonNull String value, @NonNull Class<T> type) {
+        return supplyAsync(() -> validator.validate(value, type));
+    }
+
+    @Override
+    @NonNull
+    public <T> CompletableFuture<Set<? extends ValidationMessage>> validate(@NonNull byte[] value, @NonNull Class<T> type) {
+        return supplyAsync(() -> validator.validate(value, type));
+    }
+
+    @Override
+    @NonNull
+    public <T> CompletableFuture<Set<? extends ValidationMessage>> validate(@NonNull Object value, @NonNull Class<T> type) {
+        return supplyAsync(() -> validator.validate(value, type));
+    }
+
+    @Override
+    @NonNull
+    public <T> CompletableFuture<Boolean> isValid(@NonNull Object value, @NonNull Class<T> type) {
+        return supplyAsync(() -> validator.isValid(value, type));
+    }
+
+    @Override
+    @NonNull
+    public <T> Publisher<T> validateEach(@NonNull Publisher<T> publisher, @NonNull Class<? super T> type) {
+        return new ValidatingPublisher<>(publisher, value -> validate(value, type));
+    }
+
+    private <R> CompletableFuture<R> supplyAsync(ValidationSupplier<R> supplier) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return supplier.get();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor.get());
+    }
+
+    /**
+     * A validation that can fail with an {@link IOException}.
+     *
+     * @param <R> The result type
+     */
+    @FunctionalInterface
+    private interface ValidationSupplier<R> {
+        R get() throws IOException;
+    }
+}
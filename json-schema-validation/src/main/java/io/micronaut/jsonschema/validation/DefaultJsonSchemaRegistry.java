@@ -0,0 +1,586 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.AbsoluteIri;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SchemaValidatorsConfig;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.resource.InputStreamSource;
+import com.networknt.schema.resource.SchemaLoader;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.exceptions.IntrospectionException;
+import io.micronaut.core.io.ResourceLoader;
+import io.micronaut.core.naming.NameUtils;
+import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.core.util.clhm.Weigher;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The default implementation of {@link JsonSchemaRegistry} that reads the schemas from the
+ * {@link JsonSchemaValidatorConfiguration#classpathFolder()}.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Singleton
+@Internal
+final class DefaultJsonSchemaRegistry implements JsonSchemaRegistry {
+
+    static final String CLASSPATH_PREFIX = "classpath:";
+    static final String SUFFIX = ".schema.json";
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultJsonSchemaRegistry.class);
+    private static final String MEMBER_URI = "uri";
+    private static final String MEMBER_ID = "$id";
+    private static final String MEMBER_REF = "$ref";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ClassValue<String> pathsByType = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return schemaPath(type);
+        }
+    };
+    private final AtomicReference<Snapshot> snapshot;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final JsonSchemaValidatorConfiguration config;
+    private final ResourceLoader resourceLoader;
+    private final SchemaValidatorsConfig schemaValidatorsConfig;
+    private final boolean cacheBounded;
+    private final List<JsonSchemaValidationListener> listeners;
+    @Nullable
+    private final Path schemaDirectory;
+    private final Supplier<JsonSchemaIndex> jsonSchemaIndex = SupplierUtil.memoized(
+        () -> JsonSchemaIndex.load(DefaultJsonSchemaRegistry.class.getClassLoader())
+    );
+    private final Map<String, String> pathsByIri = new ConcurrentHashMap<>();
+    private final Supplier<Map<String, String>> indexedPathsByIri = SupplierUtil.memoized(this::loadIndexedPaths);
+
+    DefaultJsonSchemaRegistry(
+            JsonSchemaValidatorConfiguration config,
+            ResourceLoader resourceLoader,
+            SchemaValidatorsConfig schemaValidatorsConfig,
+            List<JsonSchemaValidationListener> listeners
+    ) {
+        this.config = config;
+        this.listeners = listeners;
+        this.resourceLoader = resourceLoader;
+        this.schemaValidatorsConfig = schemaValidatorsConfig;
+        this.schemaDirectory = config.schemaDirectory() == null ? null : Path.of(config.schemaDirectory()).toAbsolutePath().normalize();
+        this.cacheBounded = config.cacheMaximumSize() > 0 || config.cacheMaximumWeight() > 0;
+        this.snapshot = new AtomicReference<>(newSnapshot());
+    }
+
+    @Override
+    @NonNull
+    public JsonSchema getSchema(@NonNull Class<?> type) {
+        String path = pathsByType.get(type);
+        if (!hasSchema(path)) {
+            throw new IllegalArgumentException("No schema found for type: " + type + " at path: " + path);
+        }
+        return getSchemaForPath(path);
+    }
+
+    @Override
+    public boolean hasSchema(@NonNull Class<?> type) {
+        return hasSchema(pathsByType.get(type));
+    }
+
+    private boolean hasSchema(String path) {
+        return snapshot.get().idsByPath().containsKey(path) || findSchemaFile(path).isPresent() || resourceLoader.getResource(path).isPresent();
+    }
+
+    @Override
+    @NonNull
+    public JsonSchema getSchema(@NonNull String id) {
+        String absoluteId = URI.create(config.baseUri()).resolve(id).toString();
+        return getSchemaById(snapshot.get(), absoluteId);
+    }
+
+    private JsonSchema getSchemaById(Snapshot current, String absoluteId) {
+        return getOrCompile(current, absoluteId, () -> current.factory().getSchema(SchemaLocation.of(absoluteId), schemaValidatorsConfig));
+    }
+
+    @Override
+    @NonNull
+    public JsonSchemaCacheStatistics getCacheStatistics() {
+        return new JsonSchemaCacheStatistics(
+            hitCount.sum(),
+            missCount.sum(),
+            evictionCount.sum(),
+            snapshot.get().schemas().size(),
+            snapshot.get().schemas().weightedSize()
+        );
+    }
+
+    /**
+     * Load and compile the JSON schema at a path, or get it from the cache if it was already compiled.
+     *
+     * @param path The path of the schema, starting with {@code classpath:}
+     * @return The compiled schema
+     */
+    @NonNull
+    JsonSchema getSchemaForPath(@NonNull String path) {
+        Snapshot current = snapshot.get();
+        String id = current.idsByPath().get(path);
+        if (id != null) {
+            return getOrCompile(current, id, () -> compile(current, id, path, null));
+        }
+        JsonNode schemaNode = readSchema(current, path);
+        // Schemas without an $id are cached by their path
+        String schemaId = schemaNode.path(MEMBER_ID).asText(path);
+        current.idsByPath().put(path, schemaId);
+        current.pathsById().putIfAbsent(schemaId, path);
+        return getOrCompile(current, schemaId, () -> compile(current, schemaId, path, schemaNode));
+    }
+
+    /**
+     * Recompile the cached schemas that were read from the changed paths and the cached schemas that reference them,
+     * and replace the schemas at once. The other schemas and the bytes of the unchanged schemas are carried over
+     * to a new snapshot, which is only published once it is complete. The validations that are in progress keep
+     * using the previous snapshot, and a schema that cannot be compiled anymore is kept as it was.
+     *
+     * @param changedPaths The paths of the changed schemas, starting with {@code classpath:},
+     *                     or {@code null} to recompile all the cached schemas
+     */
+    synchronized void reload(@Nullable Set<String> changedPaths) {
+        Snapshot current = snapshot.get();
+        Map<String, String> pathsById = new HashMap<>(current.pathsById());
+        current.idsByPath().forEach((path, id) -> pathsById.putIfAbsent(id, path));
+        Set<String> affectedIds = findAffectedIds(current, pathsById, changedPaths);
+
+        Snapshot next = newSnapshot();
+        current.idsByPath().forEach((path, id) -> {
+            if (!isChanged(path, changedPaths)) {
+                next.idsByPath().put(path, id);
+            }
+        });
+        current.pathsById().forEach((id, path) -> {
+            if (!isChanged(path, changedPaths)) {
+                next.pathsById().put(id, path);
+            }
+        });
+        if (current.bytesByPath() != null && next.bytesByPath() != null) {
+            current.bytesByPath().forEach((path, bytes) -> {
+                if (!isChanged(path, changedPaths)) {
+                    next.bytesByPath().put(path, bytes);
+                }
+            });
+        }
+        // The schemas are visited from the least recently used, to keep their order in the new cache
+        for (Map.Entry<String, JsonSchema> entry : current.schemas().ascendingMap().entrySet()) {
+            String id = entry.getKey();
+            if (!affectedIds.contains(id)) {
+                next.schemas().putIfAbsent(id, entry.getValue());
+                continue;
+            }
+            String path = pathsById.get(id);
+            JsonSchema schema;
+            try {
+                if (path == null) {
+                    schema = next.factory().getSchema(SchemaLocation.of(id), schemaValidatorsConfig);
+                } else {
+                    JsonNode schemaNode = readSchema(next, path);
+                    String schemaId = schemaNode.path(MEMBER_ID).asText(path);
+                    next.idsByPath().put(path, schemaId);
+                    next.pathsById().putIfAbsent(schemaId, path);
+                    id = schemaId;
+                    schema = compile(next, schemaId, path, schemaNode);
+                }
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to recompile JSON schema {}, the previous version is kept", id, e);
+                if (path != null) {
+                    next.idsByPath().putIfAbsent(path, id);
+                    next.pathsById().putIfAbsent(id, path);
+                }
+                schema = entry.getValue();
+            }
+            next.schemas().put(id, schema);
+        }
+        snapshot.set(next);
+        LOG.debug("Recompiled {} of the {} cached JSON schemas", affectedIds.size(), current.schemas().size());
+    }
+
+    /**
+     * Find the cached schemas that were read from the changed paths, and the cached schemas that reference them,
+     * directly or through other schemas.
+     */
+    private Set<String> findAffectedIds(Snapshot current, Map<String, String> pathsById, @Nullable Set<String> changedPaths) {
+        Map<String, JsonSchema> schemas = current.schemas().ascendingMap();
+        if (changedPaths == null) {
+            return new HashSet<>(schemas.keySet());
+        }
+        Set<String> affectedIds = new HashSet<>();
+        Map<String, Set<String>> referencesById = new HashMap<>();
+        for (Map.Entry<String, JsonSchema> entry : schemas.entrySet()) {
+            String id = entry.getKey();
+            if (isChanged(pathOf(pathsById, id), changedPaths)) {
+                affectedIds.add(id);
+            }
+            Set<String> references = new HashSet<>();
+            collectReferences(entry.getValue().getSchemaNode(), id.startsWith(CLASSPATH_PREFIX) ? null : id, references);
+            referencesById.put(id, references);
+        }
+        boolean added = true;
+        while (added) {
+            added = false;
+            for (Map.Entry<String, Set<String>> entry : referencesById.entrySet()) {
+                if (!affectedIds.contains(entry.getKey()) && entry.getValue().stream()
+                    .anyMatch(reference -> affectedIds.contains(reference) || isChanged(pathOf(pathsById, reference), changedPaths))) {
+                    affectedIds.add(entry.getKey());
+                    added = true;
+                }
+            }
+        }
+        return affectedIds;
+    }
+
+    /**
+     * @return The path of a schema, if it was read by path or resolved from its id
+     */
+    @Nullable
+    private String pathOf(Map<String, String> pathsById, String id) {
+        String path = pathsById.get(id);
+        return path == null ? pathsByIri.get(id) : path;
+    }
+
+    private static boolean isChanged(@Nullable String path, @Nullable Set<String> changedPaths) {
+        return changedPaths == null || path != null && changedPaths.contains(path);
+    }
+
+    /**
+     * Collect the absolute URIs, without fragment, of the schemas referenced by a schema.
+     */
+    private static void collectReferences(JsonNode node, @Nullable String baseId, Set<String> references) {
+        if (node.isObject()) {
+            JsonNode reference = node.get(MEMBER_REF);
+            if (reference != null && reference.isTextual() && !reference.textValue().startsWith("#")) {
+                try {
+                    URI uri = baseId == null ? URI.create(reference.textValue()) : URI.create(baseId).resolve(reference.textValue());
+                    if (uri.isAbsolute()) {
+                        String absolute = uri.toString();
+                        int fragment = absolute.indexOf('#');
+                        references.add(fragment < 0 ? absolute : absolute.substring(0, fragment));
+                    }
+                } catch (IllegalArgumentException e) {
+                    // The invalid references are reported by the factory
+                }
+            }
+        }
+        for (JsonNode child : node) {
+            collectReferences(child, baseId, references);
+        }
+    }
+
+    /**
+     * @return The path of the folder containing the JSON schemas, starting with {@code classpath:}
+     */
+    @NonNull
+    String getSchemaFolder() {
+        return CLASSPATH_PREFIX + config.classpathFolder();
+    }
+
+    /**
+     * @return The absolute path of the directory with the JSON schemas that override the classpath folder, if configured
+     */
+    @Nullable
+    Path getSchemaDirectory() {
+        return schemaDirectory;
+    }
+
+    /**
+     * Create an empty snapshot with its own schema factory.
+     * When the cache is unbounded, which is the default, the factory caches the schemas it compiles,
+     * so that a schema referenced by many other schemas is compiled once, and the bytes of the schemas are kept,
+     * so that a schema is read once. When the cache is bounded, nothing is kept outside of the bounded cache:
+     * every schema compiles the schemas it references, which are evicted with it, and the schemas are read again
+     * when they are compiled again.
+     */
+    private Snapshot newSnapshot() {
+        Map<String, String> pathsById = new ConcurrentHashMap<>();
+        Map<String, byte[]> bytesByPath = cacheBounded ? null : new ConcurrentHashMap<>();
+        JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012, builder -> {
+            builder.schemaLoaders(b -> b.add(new SnapshotSchemaLoader(pathsById, bytesByPath)));
+            builder.enableSchemaCache(!cacheBounded);
+        });
+        return new Snapshot(new ConcurrentHashMap<>(), pathsById, bytesByPath, newCache(), factory);
+    }
+
+    private ConcurrentLinkedHashMap<String, JsonSchema> newCache() {
+        ConcurrentLinkedHashMap.Builder<String, JsonSchema> cacheBuilder = new ConcurrentLinkedHashMap.Builder<String, JsonSchema>()
+            .listener((id, schema) -> evictionCount.increment());
+        if (config.cacheMaximumWeight() > 0) {
+            cacheBuilder.maximumWeightedCapacity(config.cacheMaximumWeight())
+                .weigher((Weigher<JsonSchema>) schema -> weigh(schema.getSchemaNode()));
+        } else if (config.cacheMaximumSize() > 0) {
+            cacheBuilder.maximumWeightedCapacity(config.cacheMaximumSize());
+        } else {
+            cacheBuilder.maximumWeightedCapacity(Long.MAX_VALUE);
+        }
+        return cacheBuilder.build();
+    }
+
+    private JsonSchema getOrCompile(Snapshot current, String id, Supplier<JsonSchema> compiler) {
+        JsonSchema schema = current.schemas().get(id);
+        if (schema != null) {
+            hitCount.increment();
+            for (JsonSchemaValidationListener listener : listeners) {
+                listener.onCacheHit(id);
+            }
+            return schema;
+        }
+        missCount.increment();
+        for (JsonSchemaValidationListener listener : listeners) {
+            listener.onCacheMiss(id);
+        }
+        SchemaCompileEvent event = new SchemaCompileEvent();
+        event.begin();
+        long start = System.nanoTime();
+        schema = compiler.get();
+        long duration = System.nanoTime() - start;
+        event.end();
+        if (event.shouldCommit()) {
+            event.schema = id;
+            event.commit();
+        }
+        for (JsonSchemaValidationListener listener : listeners) {
+            listener.onSchemaCompiled(id, duration);
+        }
+        JsonSchema previous = current.schemas().putIfAbsent(id, schema);
+        return previous == null ? schema : previous;
+    }
+
+    /**
+     * Compile a schema. The schemas with an {@code $id} are compiled by the factory of the snapshot from their location,
+     * so that the factory cache shares them with the schemas that reference them, when it is enabled.
+     *
+     * @param schemaNode The schema if it was already read, or {@code null}
+     */
+    private JsonSchema compile(Snapshot current, String id, String path, @Nullable JsonNode schemaNode) {
+        if (!cacheBounded && !id.equals(path)) {
+            return current.factory().getSchema(SchemaLocation.of(id), schemaValidatorsConfig);
+        }
+        JsonNode node = schemaNode == null ? readSchema(current, path) : schemaNode;
+        if (node.has(MEMBER_ID)) {
+            return current.factory().getSchema(SchemaLocation.of(id), node, schemaValidatorsConfig);
+        }
+        return current.factory().getSchema(node, schemaValidatorsConfig);
+    }
+
+    private JsonNode readSchema(Snapshot current, String path) {
+        try {
+            byte[] bytes = readSchemaBytes(current.bytesByPath(), path).orElseThrow(() -> new IllegalArgumentException("No schema found at path: " + path));
+            return OBJECT_MAPPER.readTree(bytes);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read schema at path: " + path, e);
+        }
+    }
+
+    /**
+     * Read the bytes of a schema, or get them from the bytes of the snapshot if the schema was already read
+     * when resolving a reference or compiling another type.
+     *
+     * @param bytesByPath The bytes of the schemas that were read, or {@code null} if they are not kept
+     */
+    private Optional<byte[]> readSchemaBytes(@Nullable Map<String, byte[]> bytesByPath, String path) throws IOException {
+        byte[] bytes = bytesByPath == null ? null : bytesByPath.get(path);
+        if (bytes != null) {
+            return Optional.of(bytes);
+        }
+        SchemaLoadEvent event = new SchemaLoadEvent();
+        event.begin();
+        Optional<InputStream> inputStream = openSchema(path);
+        if (inputStream.isEmpty()) {
+            return Optional.empty();
+        }
+        try (InputStream stream = inputStream.get()) {
+            bytes = stream.readAllBytes();
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.size = bytes.length;
+            event.commit();
+        }
+        if (bytesByPath != null) {
+            bytesByPath.put(path, bytes);
+        }
+        return Optional.of(bytes);
+    }
+
+    private Optional<InputStream> openSchema(String path) throws IOException {
+        Optional<Path> file = findSchemaFile(path);
+        if (file.isPresent()) {
+            return Optional.of(Files.newInputStream(file.get()));
+        }
+        return resourceLoader.getResourceAsStream(path);
+    }
+
+    /**
+     * @return The index of the schemas written by the annotation processor
+     */
+    @NonNull
+    JsonSchemaIndex getIndex() {
+        return jsonSchemaIndex.get();
+    }
+
+    /**
+     * Find the file that overrides a schema on the classpath in the schema directory.
+     */
+    private Optional<Path> findSchemaFile(String path) {
+        String folder = getSchemaFolder();
+        if (schemaDirectory == null || !path.startsWith(folder)) {
+            return Optional.empty();
+        }
+        Path file = schemaDirectory.resolve(path.substring(folder.length())).normalize();
+        if (!file.startsWith(schemaDirectory) || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(file);
+    }
+
+    /**
+     * Estimate the retained size of a compiled schema by the number of nodes in its JSON document.
+     */
+    private static int weigh(JsonNode node) {
+        int weight = 1;
+        for (JsonNode child : node) {
+            weight += weigh(child);
+        }
+        return weight;
+    }
+
+    private <T> String schemaPath(@NonNull Class<T> type) {
+        Optional<JsonSchemaIndex.Entry> indexEntry = jsonSchemaIndex.get().find(type);
+        if (indexEntry.isPresent()) {
+            return CLASSPATH_PREFIX + indexEntry.get().path();
+        }
+        String className = NameUtils.hyphenate(type.getSimpleName());
+        try {
+            BeanIntrospection<T> introspection = BeanIntrospection.getIntrospection(type);
+            Optional<String> uriOptional = introspection.findAnnotation(io.micronaut.jsonschema.JsonSchema.class)
+                .flatMap(annotation -> annotation.stringValue(MEMBER_URI));
+            if (uriOptional.isPresent()) {
+                className = uriOptional.get().replace("/", "");
+            }
+        } catch (IntrospectionException e) {
+            LOG.debug("Introspection exception for class {}.}", type, e);
+        }
+        String name = className + SUFFIX;
+        return CLASSPATH_PREFIX + config.classpathFolder() + name;
+    }
+
+    /**
+     * The paths of the indexed schemas by their {@code $id}, so that the references to them are resolved without
+     * normalizing their path.
+     */
+    private Map<String, String> loadIndexedPaths() {
+        Map<String, String> paths = new HashMap<>();
+        for (JsonSchemaIndex.Entry entry : jsonSchemaIndex.get().entries()) {
+            if (entry.id() != null) {
+                paths.put(entry.id(), CLASSPATH_PREFIX + entry.path());
+            }
+        }
+        return paths;
+    }
+
+    private String resolvePath(String iri) {
+        String indexedPath = indexedPathsByIri.get().get(iri);
+        if (indexedPath != null) {
+            return indexedPath;
+        }
+        String path = URI.create(iri).toString();
+        if (path.startsWith(config.baseUri())) {
+            path = path.substring(config.baseUri().length());
+        }
+        String filePath = Path.of(config.classpathFolder() + path).normalize().toString();
+        if (!filePath.startsWith(config.classpathFolder())) {
+            throw new IllegalArgumentException("Schema for URI " + iri + " is not inside the required folder " + config.classpathFolder() + " at path: " + path);
+        }
+        return CLASSPATH_PREFIX + filePath;
+    }
+
+    /**
+     * Loads the schemas for the factory of a snapshot, from the paths and the bytes of the snapshot.
+     */
+    private final class SnapshotSchemaLoader implements SchemaLoader {
+        private final Map<String, String> pathsById;
+        @Nullable
+        private final Map<String, byte[]> bytesByPath;
+
+        SnapshotSchemaLoader(Map<String, String> pathsById, @Nullable Map<String, byte[]> bytesByPath) {
+            this.pathsById = pathsById;
+            this.bytesByPath = bytesByPath;
+        }
+
+        @Override
+        public InputStreamSource getSchema(AbsoluteIri absoluteIri) {
+            String iri = absoluteIri.toString();
+            String knownPath = pathsById.get(iri);
+            String path = knownPath == null ? pathsByIri.computeIfAbsent(iri, DefaultJsonSchemaRegistry.this::resolvePath) : knownPath;
+            return () -> new ByteArrayInputStream(readSchemaBytes(bytesByPath, path)
+                .orElseThrow(() -> new IllegalArgumentException("No schema found for uri: " + absoluteIri + " at path: " + path)));
+        }
+    }
+
+    /**
+     * The compiled schemas and what they were compiled from, which are replaced together when the schemas are reloaded.
+     *
+     * @param idsByPath The ids of the schemas by their path
+     * @param pathsById The paths of the schemas read by path, by their id
+     * @param bytesByPath The bytes of the schemas that were read by their path, or {@code null} if the cache is bounded
+     * @param schemas The compiled schemas by their id
+     * @param factory The factory that compiles the schemas of the snapshot
+     */
+    private record Snapshot(
+        Map<String, String> idsByPath,
+        Map<String, String> pathsById,
+        @Nullable Map<String, byte[]> bytesByPath,
+        ConcurrentLinkedHashMap<String, JsonSchema> schemas,
+        JsonSchemaFactory factory
+    ) {
+    }
+}
@@ -15,132 +15,518 @@
  */
 package io.micronaut.jsonschema.validation;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.networknt.schema.*;
-import com.networknt.schema.resource.InputStreamSource;
-import com.networknt.schema.resource.SchemaLoader;
-import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
-import io.micronaut.core.beans.BeanIntrospection;
-import io.micronaut.core.beans.exceptions.IntrospectionException;
-import io.micronaut.core.io.ResourceLoader;
-import io.micronaut.core.naming.NameUtils;
+import io.micronaut.core.reflect.InstantiationUtils;
 import io.micronaut.json.JsonMapper;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URI;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Singleton
 @Internal
 final class DefaultJsonSchemaValidator implements JsonSchemaValidator {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultJsonSchemaValidator.class);
-    private static final String CLASSPATH_PREFIX = "classpath:";
-    private static final String SUFFIX = ".schema.json";
-    private static final String MEMBER_URI = "uri";
     private static final ExecutionContextCustomizer CONTEXT_CUSTOMIZER = (executionContext, validationContext) -> {
         // By default, since Draft 2019-09 the format keyword only generates annotations and not assertions
         validationContext.getConfig().setFormatAssertionsEnabled(true);
     };
+    private static final ExecutionContextCustomizer FAIL_FAST_CONTEXT_CUSTOMIZER = (executionContext, validationContext) -> {
+        CONTEXT_CUSTOMIZER.customize(executionContext, validationContext);
+        executionContext.getExecutionConfig().setFailFast(true);
+    };
+    private static final int LINES_CHUNK_SIZE = 1024;
+    private static final long UNKNOWN_SIZE = -1;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    private final Map<Class<?>, JsonSchema> jsonSchemaCache = new ConcurrentHashMap<>();
+    // Class values do not prevent the types and their class loaders from being unloaded
+    private final ClassValue<Optional<GeneratedJsonSchemaValidator>> generatedValidatorCache = new ClassValue<>() {
+        @Override
+        protected Optional<GeneratedJsonSchemaValidator> computeValue(Class<?> type) {
+            return generatedValidatorForClass(type);
+        }
+    };
+    private final ClassValue<AtomicReference<CompiledStreamingValidator>> streamingValidatorCache = new ClassValue<>() {
+        @Override
+        protected AtomicReference<CompiledStreamingValidator> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
     private final JsonSchemaValidatorConfiguration config;
-    private final ResourceLoader resourceLoader;
     private final JsonMapper jsonMapper;
-    private final SchemaValidatorsConfig schemaValidatorsConfig;
+    private final JsonSchemaRegistry jsonSchemaRegistry;
+    private final List<JsonSchemaValidationListener> listeners;
+    private final BeanIntrospectionJsonNodeConverter beanNodeConverter;
 
     DefaultJsonSchemaValidator(
             JsonSchemaValidatorConfiguration config,
-            ResourceLoader resourceLoader,
             JsonMapper jsonMapper,
-            SchemaValidatorsConfig schemaValidatorsConfig
+            JsonSchemaRegistry jsonSchemaRegistry,
+            List<JsonSchemaValidationListener> listeners
     ) {
         this.config = config;
-        this.resourceLoader = resourceLoader;
         this.jsonMapper = jsonMapper;
-        this.schemaValidatorsConfig = schemaValidatorsConfig;
+        this.beanNodeConverter = new BeanIntrospectionJsonNodeConverter(jsonMapper);
+        this.jsonSchemaRegistry = jsonSchemaRegistry;
+        this.listeners = listeners;
     }
 
     @Override
-    public <T> Set<? extends ValidationMessage> validate(@NonNull String json, @NonNull Class<T> type) {
-        JsonSchema schema = jsonSchemaCache.computeIfAbsent(type, this::jsonSchemaForClass);
-        return validate(schema, json);
+    public <T> Set<? extends ValidationMessage> validate(@NonNull String json, @NonNull Class<T> type) throws IOException {
+        return validate(() -> OBJECT_MAPPER.createParser(json), json.length(), type, config.maxErrors());
+    }
+
+    @Override
+    public <T> Set<? extends ValidationMessage> validate(@NonNull byte[] value, @NonNull Class<T> type) throws IOException {
+        return validate(() -> OBJECT_MAPPER.createParser(value), value.length, type, config.maxErrors());
+    }
+
+    @Override
+    public <T> Set<? extends ValidationMessage> validate(@NonNull InputStream value, @NonNull Class<T> type) throws IOException {
+        return validate(() -> createParser(value), UNKNOWN_SIZE, type, config.maxErrors());
+    }
+
+    @Override
+    public <T> Set<? extends ValidationMessage> validate(@NonNull ByteBuffer value, @NonNull Class<T> type) throws IOException {
+        return validate(() -> createParser(value), value.remaining(), type, config.maxErrors());
+    }
+
+    @Override
+    @NonNull
+    public <T> Set<? extends ValidationMessage> validateFile(@NonNull Path file, @NonNull Class<T> type) throws IOException {
+        try (InputStream inputStream = new MappedFileInputStream(file)) {
+            return validate(() -> createParser(inputStream), Files.size(file), type, config.maxErrors());
+        }
     }
 
     @Override
     @NonNull
     public <T> Set<? extends ValidationMessage> validate(@NonNull Object value, @NonNull Class<T> type) throws IOException {
-        JsonSchema schema = jsonSchemaCache.computeIfAbsent(type, this::jsonSchemaForClass);
-        String json = jsonMapper.writeValueAsString(value);
-        return validate(schema, json);
+        return validate(value, type, config.maxErrors());
+    }
+
+    @Override
+    public <T> boolean isValid(@NonNull String json, @NonNull Class<T> type) throws IOException {
+        return validate(() -> OBJECT_MAPPER.createParser(json), json.length(), type, 1).isEmpty();
     }
 
-    private <T> JsonSchema jsonSchemaForClass(@NonNull Class<T> type) {
-        String jsonSchema = jsonSchemaStringForClass(type);
-        if (jsonSchema == null) {
-            throw new IllegalArgumentException("No schema found for type: " + type);
+    @Override
+    public <T> boolean isValid(@NonNull byte[] value, @NonNull Class<T> type) throws IOException {
+        return validate(() -> OBJECT_MAPPER.createParser(value), value.length, type, 1).isEmpty();
+    }
+
+    @Override
+    public <T> boolean isValid(@NonNull InputStream value, @NonNull Class<T> type) throws IOException {
+        return validate(() -> createParser(value), UNKNOWN_SIZE, type, 1).isEmpty();
+    }
+
+    @Override
+    public <T> boolean isValid(@NonNull ByteBuffer value, @NonNull Class<T> type) throws IOException {
+        return validate(() -> createParser(value), value.remaining(), type, 1).isEmpty();
+    }
+
+    @Override
+    public <T> boolean isValid(@NonNull Object value, @NonNull Class<T> type) throws IOException {
+        return validate(value, type, 1).isEmpty();
+    }
+
+    @Override
+    @NonNull
+    public <T> IncrementalValidation validateIncrementally(@NonNull Class<T> type) {
+        Optional<StreamingJsonSchemaValidator> streamingValidator = streamingValidatorForClass(type);
+        if (streamingValidator.isEmpty()) {
+            return new BufferedIncrementalValidation<>(this, type);
+        }
+        return new NonBlockingValidation(type, streamingValidator.get(), config.maxErrors());
+    }
+
+    @Override
+    @NonNull
+    public <T> List<Set<? extends ValidationMessage>> validateAll(@NonNull List<?> values, @NonNull Class<T> type) throws IOException {
+        if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // Load the validators of the type once, instead of letting the parallel tasks race for them
+        loadValidators(type);
+        try {
+            return IntStream.range(0, values.size())
+                .parallel()
+                .mapToObj(i -> validateElement(values.get(i), type))
+                .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    @NonNull
+    public <T> SortedMap<Long, Set<? extends ValidationMessage>> validateLines(@NonNull InputStream value, @NonNull Class<T> type) throws IOException {
+        loadValidators(type);
+        SortedMap<Long, Set<? extends ValidationMessage>> result = new TreeMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(value, StandardCharsets.UTF_8));
+        // The next chunk is read while the previous one is being validated
+        CompletableFuture<Void> previousChunk = CompletableFuture.completedFuture(null);
+        long lineNumber = 0;
+        List<String> lines = new ArrayList<>(LINES_CHUNK_SIZE);
+        String line;
+        try {
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+                if (lines.size() == LINES_CHUNK_SIZE) {
+                    previousChunk.join();
+                    previousChunk = validateLinesAsync(lines, lineNumber + 1, type, result);
+                    lineNumber += lines.size();
+                    lines = new ArrayList<>(LINES_CHUNK_SIZE);
+                }
+            }
+            previousChunk.join();
+            validateLinesAsync(lines, lineNumber + 1, type, result).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException ioException) {
+                throw ioException.getCause();
+            }
+            throw e;
+        }
+        return result;
+    }
+
+    @Override
+    @NonNull
+    public <T> SortedMap<Long, Set<? extends ValidationMessage>> validateLines(@NonNull Path file, @NonNull Class<T> type) throws IOException {
+        try (InputStream inputStream = new MappedFileInputStream(file)) {
+            return validateLines(inputStream, type);
         }
-        JsonSchemaFactory jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012, builder -> {
-            builder.schemaLoaders(b -> b.add(new ResourceSchemaLoader()));
+    }
+
+    private <T> CompletableFuture<Void> validateLinesAsync(List<String> lines, long firstLineNumber, Class<T> type, Map<Long, Set<? extends ValidationMessage>> result) {
+        return CompletableFuture.runAsync(() -> {
+            List<Set<? extends ValidationMessage>> messages = IntStream.range(0, lines.size())
+                .parallel()
+                .mapToObj(i -> validateLine(lines.get(i), type))
+                .toList();
+            for (int i = 0; i < messages.size(); ++i) {
+                if (!messages.get(i).isEmpty()) {
+                    result.put(firstLineNumber + i, messages.get(i));
+                }
+            }
         });
-        return jsonSchemaFactory.getSchema(jsonSchema, schemaValidatorsConfig);
     }
 
-    private <T> String jsonSchemaStringForClass(@NonNull Class<T> type) {
-        String path = jsonSchemaPath(type);
-        try (InputStream inputStream = resourceLoader.getResourceAsStream(path).orElseThrow(() -> new IllegalArgumentException("No schema found for type: " + type + " at path: " + path))) {
-            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    private <T> Set<? extends ValidationMessage> validateLine(String line, Class<T> type) {
+        if (line.isBlank()) {
+            return Collections.emptySet();
+        }
+        try {
+            return validate(line, type);
+        } catch (JsonProcessingException e) {
+            return Set.of(DefaultValidationMessage.invalidJson(e));
         } catch (IOException e) {
-            return null;
+            throw new UncheckedIOException(e);
         }
     }
 
-    private <T> String jsonSchemaPath(@NonNull Class<T> type) {
-        String className = NameUtils.hyphenate(type.getSimpleName());
+    private <T> Set<? extends ValidationMessage> validateElement(@NonNull Object value, @NonNull Class<T> type) {
         try {
-            BeanIntrospection<T> introspection = BeanIntrospection.getIntrospection(type);
-            AnnotationValue<io.micronaut.jsonschema.JsonSchema> jsonSchemaAnnotationValue = introspection.getAnnotation(io.micronaut.jsonschema.JsonSchema.class);
-            Optional<String> uriOptional = jsonSchemaAnnotationValue.stringValue(MEMBER_URI);
-            if (uriOptional.isPresent()) {
-                className = uriOptional.get().replace("/", "");
+            if (value instanceof CharSequence json) {
+                return validate(json.toString(), type);
+            } else if (value instanceof byte[] bytes) {
+                return validate(bytes, type);
+            }
+            return validate(value, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> void loadValidators(@NonNull Class<T> type) {
+        if (config.streaming()) {
+            streamingValidatorForClass(type);
+        }
+        if (generatedValidatorCache.get(type).isEmpty()) {
+            jsonSchemaRegistry.getSchema(type);
+        }
+    }
+
+    private <T> Set<? extends ValidationMessage> validate(@NonNull Object value, @NonNull Class<T> type, int maxErrors) throws IOException {
+        return observe(type, UNKNOWN_SIZE, () -> validateObject(value, type, maxErrors));
+    }
+
+    private <T> Set<? extends ValidationMessage> validate(@NonNull ParserSource source, long inputSize, @NonNull Class<T> type, int maxErrors) throws IOException {
+        return observe(type, inputSize, () -> validateSource(source, type, maxErrors));
+    }
+
+    private <T> Set<? extends ValidationMessage> observe(@NonNull Class<T> type, long inputSize, @NonNull Validation validation) throws IOException {
+        // The event is a no-op that the JIT removes when no flight recording is running
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        long start = listeners.isEmpty() ? 0 : System.nanoTime();
+        Set<? extends ValidationMessage> messages = validation.validate();
+        report(type, inputSize, messages, event, start);
+        return messages;
+    }
+
+    private void report(@NonNull Class<?> type, long inputSize, @NonNull Set<? extends ValidationMessage> messages, @NonNull ValidationEvent event, long start) {
+        if (!listeners.isEmpty()) {
+            long duration = System.nanoTime() - start;
+            for (JsonSchemaValidationListener listener : listeners) {
+                listener.onValidated(type, messages.size(), duration);
             }
-        } catch (IntrospectionException e) {
-            LOG.debug("Introspection exception for class {}.}", type, e);
         }
-        String name = className + SUFFIX;
-        return CLASSPATH_PREFIX + config.classpathFolder() + name;
+        event.end();
+        if (event.shouldCommit()) {
+            event.type = type.getName();
+            event.inputSize = inputSize;
+            event.errorCount = messages.size();
+            event.commit();
+        }
+    }
+
+    private <T> Set<? extends ValidationMessage> validateObject(@NonNull Object value, @NonNull Class<T> type, int maxErrors) throws IOException {
+        if (config.introspectObjects()) {
+            Optional<JsonNode> node = beanNodeConverter.convert(value, type);
+            if (node.isPresent()) {
+                return validate(node.get(), type, maxErrors);
+            }
+        }
+        String json = jsonMapper.writeValueAsString(value);
+        return validateSource(() -> OBJECT_MAPPER.createParser(json), type, maxErrors);
+    }
+
+    private <T> Set<? extends ValidationMessage> validateSource(@NonNull ParserSource source, @NonNull Class<T> type, int maxErrors) throws IOException {
+        if (config.streaming()) {
+            Optional<StreamingJsonSchemaValidator> streamingValidator = streamingValidatorForClass(type);
+            if (streamingValidator.isPresent()) {
+                LimitedValidationMessages messages = new LimitedValidationMessages(maxErrors);
+                try (JsonParser parser = source.createParser()) {
+                    streamingValidator.get().validate(parser, messages);
+                } catch (LimitedValidationMessages.LimitReachedException e) {
+                    // The remaining JSON is not read once the maximum number of errors is reached
+                }
+                return new HashSet<>(messages);
+            }
+        }
+        JsonNode node;
+        try (JsonParser parser = source.createParser()) {
+            node = readTree(parser);
+        }
+        return validate(node, type, maxErrors);
+    }
+
+    private <T> Set<? extends ValidationMessage> validate(@NonNull JsonNode node, @NonNull Class<T> type, int maxErrors) {
+        Optional<GeneratedJsonSchemaValidator> generatedValidator = generatedValidatorCache.get(type);
+        if (generatedValidator.isPresent()) {
+            return validate(generatedValidator.get(), node, maxErrors);
+        }
+        JsonSchema schema = jsonSchemaRegistry.getSchema(type);
+        return validate(schema, node, maxErrors);
+    }
+
+    private static JsonParser createParser(InputStream inputStream) throws IOException {
+        JsonParser parser = OBJECT_MAPPER.createParser(inputStream);
+        parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        return parser;
+    }
+
+    private static JsonParser createParser(ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return OBJECT_MAPPER.createParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return OBJECT_MAPPER.createParser(new ByteBufferBackedInputStream(buffer.duplicate()));
     }
 
-    private static Set<? extends ValidationMessage> validate(JsonSchema schema, String json) {
-        return schema.validate(json, InputFormat.JSON, CONTEXT_CUSTOMIZER)
+    private static JsonNode readTree(JsonParser parser) throws IOException {
+        JsonNode node = OBJECT_MAPPER.readTree(parser);
+        return node == null ? MissingNode.getInstance() : node;
+    }
+
+    private Optional<GeneratedJsonSchemaValidator> generatedValidatorForClass(@NonNull Class<?> type) {
+        if (config.schemaDirectory() != null) {
+            // The generated validators would not see the changes of the reloaded schemas
+            return Optional.empty();
+        }
+        String name = type.getName();
+        String packageName = type.getPackageName();
+        String simpleName = packageName.isEmpty() ? name : name.substring(packageName.length() + 1);
+        String validatorName = (packageName.isEmpty() ? "" : packageName + ".")
+            + GeneratedJsonSchemaValidator.CLASS_PREFIX + simpleName + GeneratedJsonSchemaValidator.CLASS_SUFFIX;
+        Optional<Object> validator = InstantiationUtils.tryInstantiate(validatorName, type.getClassLoader());
+        return validator.filter(GeneratedJsonSchemaValidator.class::isInstance)
+            .map(GeneratedJsonSchemaValidator.class::cast);
+    }
+
+    private Optional<StreamingJsonSchemaValidator> streamingValidatorForClass(@NonNull Class<?> type) {
+        JsonSchema schema = jsonSchemaRegistry.getSchema(type);
+        AtomicReference<CompiledStreamingValidator> reference = streamingValidatorCache.get(type);
+        CompiledStreamingValidator compiled = reference.get();
+        // The streaming validator is recompiled when the schema is evicted or reloaded
+        if (compiled == null || compiled.schema() != schema) {
+            Optional<StreamingJsonSchemaValidator> validator = StreamingJsonSchemaValidator.compile(schema.getSchemaNode());
+            if (validator.isEmpty()) {
+                LOG.debug("The JSON schema of {} has keywords that cannot be validated while streaming, the JSON will be read into a tree", type);
+            }
+            compiled = new CompiledStreamingValidator(schema, validator);
+            reference.set(compiled);
+        }
+        return compiled.validator();
+    }
+
+    private static Set<? extends ValidationMessage> validate(GeneratedJsonSchemaValidator validator, JsonNode node, int maxErrors) {
+        LimitedValidationMessages messages = new LimitedValidationMessages(maxErrors);
+        try {
+            validator.validate(node, "", messages);
+        } catch (LimitedValidationMessages.LimitReachedException e) {
+            // The remaining keywords are not checked once the maximum number of errors is reached
+        }
+        return new HashSet<>(messages);
+    }
+
+    private static Set<? extends ValidationMessage> validate(JsonSchema schema, JsonNode node, int maxErrors) {
+        Stream<ValidationMessageAdapter> messages = schema.validate(node, maxErrors == 1 ? FAIL_FAST_CONTEXT_CUSTOMIZER : CONTEXT_CUSTOMIZER)
                 .stream()
-                .map(ValidationMessageAdapter::new)
-                .collect(Collectors.toSet());
+                .map(ValidationMessageAdapter::new);
+        if (maxErrors > 0) {
+            messages = messages.limit(maxErrors);
+        }
+        return messages.collect(Collectors.toSet());
+    }
+
+    /**
+     * A source of a parser for the JSON to validate.
+     */
+    @FunctionalInterface
+    private interface ParserSource {
+        JsonParser createParser() throws IOException;
     }
 
-    private class ResourceSchemaLoader implements SchemaLoader {
+    /**
+     * A validation that is reported to the listeners.
+     */
+    @FunctionalInterface
+    private interface Validation {
+        Set<? extends ValidationMessage> validate() throws IOException;
+    }
+
+    /**
+     * An incremental validation that feeds the chunks to a non-blocking parser and validates
+     * the tokens as soon as they are parsed.
+     */
+    private final class NonBlockingValidation implements IncrementalValidation {
+
+        private final Class<?> type;
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final LimitedValidationMessages messages;
+        private final StreamingJsonSchemaValidator.Incremental validation;
+        private final ValidationEvent event = new ValidationEvent();
+        private final long start;
+        private long inputSize;
+        private boolean stopped;
+
+        private NonBlockingValidation(Class<?> type, StreamingJsonSchemaValidator validator, int maxErrors) {
+            this.type = type;
+            try {
+                parser = OBJECT_MAPPER.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            messages = new LimitedValidationMessages(maxErrors);
+            validation = validator.incremental(messages);
+            event.begin();
+            start = listeners.isEmpty() ? 0 : System.nanoTime();
+        }
+
+        @Override
+        public boolean feed(@NonNull byte[] chunk, int offset, int length) throws IOException {
+            if (stopped) {
+                return false;
+            }
+            inputSize += length;
+            feeder.feedInput(chunk, offset, offset + length);
+            // The parser reads the chunk while the tokens are consumed, so it is not retained after this call
+            stopped = !consumeTokens() || validation.isComplete() || !messages.isEmpty();
+            return !stopped;
+        }
+
         @Override
-        public InputStreamSource getSchema(AbsoluteIri absoluteIri) {
-            String path = URI.create(absoluteIri.toString()).toString();
-            if (path.startsWith(config.baseUri())) {
-                path = path.substring(config.baseUri().length());
+        @NonNull
+        public Set<? extends ValidationMessage> complete() throws IOException {
+            if (!stopped) {
+                feeder.endOfInput();
+                if (consumeTokens() && !validation.isComplete()) {
+                    throw new JsonParseException(parser, validation.isStarted() ? "Unexpected end of JSON content" : "No JSON content to validate");
+                }
+                stopped = true;
             }
-            String filePath = Path.of(config.classpathFolder() + path).normalize().toString();
-            if (!filePath.startsWith(config.classpathFolder())) {
-                throw new IllegalArgumentException("Schema for URI " + absoluteIri + " is not inside the required folder " + config.classpathFolder() + " at path: " + path);
+            parser.close();
+            Set<? extends ValidationMessage> result = new HashSet<>(messages);
+            report(type, inputSize, result, event, start);
+            return result;
+        }
+
+        /**
+         * Validate the tokens until the parser needs more input.
+         *
+         * @return Whether the validation can continue
+         */
+        private boolean consumeTokens() throws IOException {
+            try {
+                JsonToken token;
+                while (!validation.isComplete() && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                    validation.accept(parser);
+                }
+                return true;
+            } catch (LimitedValidationMessages.LimitReachedException e) {
+                // The remaining JSON is not read once the maximum number of errors is reached
+                return false;
             }
-            return () -> resourceLoader.getResourceAsStream(CLASSPATH_PREFIX + filePath)
-                .orElseThrow(() -> new IllegalArgumentException("No schema found for uri: " + absoluteIri + " at path: " + filePath));
         }
     }
 
+    /**
+     * A streaming validator with the schema it was compiled from.
+     *
+     * @param schema The compiled schema
+     * @param validator The streaming validator, if the schema can be validated while streaming
+     */
+    private record CompiledStreamingValidator(
+        JsonSchema schema,
+        Optional<StreamingJsonSchemaValidator> validator
+    ) {
+    }
+
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micronaut.core.annotation.Internal;
+
+import java.util.Objects;
+
+/**
+ * A {@link ValidationMessage} that is created without the networknt validator,
+ * for example by a generated validator.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+public final class DefaultValidationMessage implements ValidationMessage {
+    private final String message;
+
+    /**
+     *
+     * @param message The validation message.
+     */
+    public DefaultValidationMessage(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Create the message reported for a value that is not valid JSON.
+     *
+     * @param exception The exception thrown while parsing the value
+     * @return The validation message
+     */
+    public static DefaultValidationMessage invalidJson(JsonProcessingException exception) {
+        return new DefaultValidationMessage(": invalid JSON: " + exception.getOriginalMessage());
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return message.equals(((DefaultValidationMessage) o).message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(message);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultValidationMessage{message=" + message + "}";
+    }
+}
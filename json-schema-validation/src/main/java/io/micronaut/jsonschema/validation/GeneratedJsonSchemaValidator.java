@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.List;
+
+/**
+ * A validator generated at compile time for a type annotated with
+ * {@link io.micronaut.jsonschema.JsonSchema}.
+ * The generated class is named {@code $<SimpleName>$JsonSchemaValidator} and is placed
+ * in the package of the type. It is only generated when the
+ * {@code micronaut.jsonschema.generateValidators} annotation processor option is enabled
+ * and all the keywords of the schema are supported.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+public interface GeneratedJsonSchemaValidator {
+
+    /**
+     * The prefix of the generated validator class simple name.
+     */
+    String CLASS_PREFIX = "$";
+
+    /**
+     * The suffix of the generated validator class name.
+     */
+    String CLASS_SUFFIX = "$JsonSchemaValidator";
+
+    /**
+     * Validate a JSON node against the schema.
+     *
+     * @param node The node to validate
+     * @param path The JSON pointer of the node
+     * @param messages The list to add validation messages to
+     */
+    void validate(@NonNull JsonNode node, @NonNull String path, @NonNull List<ValidationMessage> messages);
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * A validation of UTF-8 encoded JSON that is fed in chunks, for example as they are received from the network.
+ * It is created with {@link JsonSchemaValidator#validateIncrementally(Class)}.
+ * A validation is not thread-safe, the chunks must be fed one after another.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+public interface IncrementalValidation {
+
+    /**
+     * Feed the next chunk of the JSON.
+     * The bytes are not retained after this method returns, so the array can be reused.
+     *
+     * @param chunk The array containing the chunk
+     * @param offset The offset of the chunk in the array
+     * @param length The length of the chunk
+     * @return Whether more input is needed. False once the JSON is known to be invalid, or once the whole JSON value is read.
+     * @throws IOException If the JSON cannot be parsed
+     */
+    boolean feed(@NonNull byte[] chunk, int offset, int length) throws IOException;
+
+    /**
+     * Signal the end of the input and get the validation messages.
+     * If {@link #feed(byte[], int, int)} returned false because the JSON is invalid,
+     * only the messages found in the input fed so far are returned.
+     *
+     * @return A set of validation messages. Empty if valid.
+     * @throws IOException If the JSON cannot be parsed
+     */
+    @NonNull
+    Set<? extends ValidationMessage> complete() throws IOException;
+}
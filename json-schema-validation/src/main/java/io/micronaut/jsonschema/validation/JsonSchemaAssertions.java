@@ -0,0 +1,401 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.core.annotation.Internal;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * The assertions of JSON schema keywords used by the {@link GeneratedJsonSchemaValidator} classes.
+ * The messages are formatted in the same way as the ones of the networknt validator.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+public final class JsonSchemaAssertions {
+
+    public static final int ARRAY = 1;
+    public static final int BOOLEAN = 1 << 1;
+    public static final int NULL = 1 << 2;
+    public static final int INTEGER = 1 << 3;
+    public static final int NUMBER = 1 << 4;
+    public static final int OBJECT = 1 << 5;
+    public static final int STRING = 1 << 6;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String SLASH = "/";
+
+    private JsonSchemaAssertions() {
+    }
+
+    /**
+     * Parse a JSON value that is a constant in the schema.
+     *
+     * @param json The JSON value
+     * @return The parsed node
+     */
+    public static JsonNode parse(String json) {
+        try {
+            return OBJECT_MAPPER.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not parse JSON schema constant " + json, e);
+        }
+    }
+
+    /**
+     * Create the JSON pointer of an object property.
+     *
+     * @param path The JSON pointer of the object
+     * @param property The property name
+     * @return The JSON pointer of the property
+     */
+    public static String child(String path, String property) {
+        return path + SLASH + property.replace("~", "~0").replace(SLASH, "~1");
+    }
+
+    /**
+     * Create the JSON pointer of an array item.
+     *
+     * @param path The JSON pointer of the array
+     * @param index The index of the item
+     * @return The JSON pointer of the item
+     */
+    public static String child(String path, int index) {
+        return path + SLASH + index;
+    }
+
+    /**
+     * Assert the {@code type} keyword.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param types The allowed types as a combination of type flags
+     * @param expected The expected types as written in the message
+     * @param messages The messages
+     */
+    public static void type(JsonNode node, String path, int types, String expected, List<ValidationMessage> messages) {
+        int nodeType = nodeType(node);
+        if ((types & nodeType) != 0) {
+            return;
+        }
+        if (nodeType == INTEGER && (types & NUMBER) != 0) {
+            return;
+        }
+        if (nodeType == NUMBER && (types & INTEGER) != 0 && node.canConvertToExactIntegral()) {
+            return;
+        }
+        messages.add(new DefaultValidationMessage(path + ": " + typeName(nodeType) + " found, " + expected + " expected"));
+    }
+
+    /**
+     * Assert the {@code const} keyword.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param value The constant value
+     * @param messages The messages
+     */
+    public static void constValue(JsonNode node, String path, JsonNode value, List<ValidationMessage> messages) {
+        if (!value.equals(node)) {
+            messages.add(new DefaultValidationMessage(path + ": must be the constant value '" + value.asText() + "'"));
+        }
+    }
+
+    /**
+     * Assert the {@code enum} keyword.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param values The array of allowed values
+     * @param messages The messages
+     */
+    public static void enumValues(JsonNode node, String path, JsonNode values, List<ValidationMessage> messages) {
+        for (JsonNode value : values) {
+            if (value.equals(node)) {
+                return;
+            }
+        }
+        StringBuilder allowed = new StringBuilder("[");
+        for (int i = 0; i < values.size(); ++i) {
+            if (i != 0) {
+                allowed.append(", ");
+            }
+            allowed.append(values.get(i).asText());
+        }
+        allowed.append(']');
+        messages.add(new DefaultValidationMessage(path + ": does not have a value in the enumeration " + allowed));
+    }
+
+    /**
+     * Assert the {@code minLength} keyword.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param minLength The minimum length
+     * @param messages The messages
+     */
+    public static void minLength(JsonNode node, String path, int minLength, List<ValidationMessage> messages) {
+        if (node.isTextual() && length(node) < minLength) {
+            messages.add(new DefaultValidationMessage(path + ": must be at least " + minLength + " characters long"));
+        }
+    }
+
+    /**
+     * Assert the {@code maxLength} keyword.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param maxLength The maximum length
+     * @param messages The messages
+     */
+    public static void maxLength(JsonNode node, String path, int maxLength, List<ValidationMessage> messages) {
+        if (node.isTextual() && length(node) > maxLength) {
+            messages.add(new DefaultValidationMessage(path + ": must be at most " + maxLength + " characters long"));
+        }
+    }
+
+    /**
+     * Assert the {@code pattern} keyword.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param pattern The pattern
+     * @param messages The messages
+     */
+    public static void pattern(JsonNode node, String path, Pattern pattern, List<ValidationMessage> messages) {
+        if (node.isTextual() && !pattern.matcher(node.textValue()).find()) {
+            messages.add(new DefaultValidationMessage(path + ": does not match the regex pattern " + pattern.pattern()));
+        }
+    }
+
+    /**
+     * Assert the {@code minimum} keyword.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param minimum The minimum
+     * @param messages The messages
+     */
+    public static void minimum(JsonNode node, String path, BigDecimal minimum, List<ValidationMessage> messages) {
+        if (node.isNumber() && node.decimalValue().compareTo(minimum) < 0) {
+            messages.add(new DefaultValidationMessage(path + ": must have a minimum value of " + minimum.toPlainString()));
+        }
+    }
+
+    /**
+     * Assert the {@code maximum} keyword.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param maximum The maximum
+     * @param messages The messages
+     */
+    public static void maximum(JsonNode node, String path, BigDecimal maximum, List<ValidationMessage> messages) {
+        if (node.isNumber() && node.decimalValue().compareTo(maximum) > 0) {
+            messages.add(new DefaultValidationMessage(path + ": must have a maximum value of " + maximum.toPlainString()));
+        }
+    }
+
+    /**
+     * Assert the {@code exclusiveMinimum} keyword.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param minimum The exclusive minimum
+     * @param messages The messages
+     */
+    public static void exclusiveMinimum(JsonNode node, String path, BigDecimal minimum, List<ValidationMessage> messages) {
+        if (node.isNumber() && node.decimalValue().compareTo(minimum) <= 0) {
+            messages.add(new DefaultValidationMessage(path + ": must have an exclusive minimum value of " + minimum.toPlainString()));
+        }
+    }
+
+    /**
+     * Assert the {@code exclusiveMaximum} keyword.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param maximum The exclusive maximum
+     * @param messages The messages
+     */
+    public static void exclusiveMaximum(JsonNode node, String path, BigDecimal maximum, List<ValidationMessage> messages) {
+        if (node.isNumber() && node.decimalValue().compareTo(maximum) >= 0) {
+            messages.add(new DefaultValidationMessage(path + ": must have an exclusive maximum value of " + maximum.toPlainString()));
+        }
+    }
+
+    /**
+     * Assert the {@code minItems} keyword.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param minItems The minimum number of items
+     * @param messages The messages
+     */
+    public static void minItems(JsonNode node, String path, int minItems, List<ValidationMessage> messages) {
+        if (node.isArray()) {
+            minItems(node.size(), path, minItems, messages);
+        }
+    }
+
+    /**
+     * Assert the {@code minItems} keyword for an array with a known number of items.
+     *
+     * @param size The number of items in the array
+     * @param path The JSON pointer of the array
+     * @param minItems The minimum number of items
+     * @param messages The messages
+     */
+    public static void minItems(int size, String path, int minItems, List<ValidationMessage> messages) {
+        if (size < minItems) {
+            messages.add(new DefaultValidationMessage(path + ": must have at least " + minItems + " items but found " + size));
+        }
+    }
+
+    /**
+     * Assert the {@code maxItems} keyword.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param maxItems The maximum number of items
+     * @param messages The messages
+     */
+    public static void maxItems(JsonNode node, String path, int maxItems, List<ValidationMessage> messages) {
+        if (node.isArray()) {
+            maxItems(node.size(), path, maxItems, messages);
+        }
+    }
+
+    /**
+     * Assert the {@code maxItems} keyword for an array with a known number of items.
+     *
+     * @param size The number of items in the array
+     * @param path The JSON pointer of the array
+     * @param maxItems The maximum number of items
+     * @param messages The messages
+     */
+    public static void maxItems(int size, String path, int maxItems, List<ValidationMessage> messages) {
+        if (size > maxItems) {
+            messages.add(new DefaultValidationMessage(path + ": must have at most " + maxItems + " items but found " + size));
+        }
+    }
+
+    /**
+     * Assert the {@code uniqueItems} keyword.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param messages The messages
+     */
+    public static void uniqueItems(JsonNode node, String path, List<ValidationMessage> messages) {
+        if (node.isArray()) {
+            Set<JsonNode> items = new HashSet<>(node.size());
+            for (JsonNode item : node) {
+                if (!items.add(item)) {
+                    messages.add(new DefaultValidationMessage(path + ": must have only unique items in the array"));
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Assert the {@code required} keyword for a single property.
+     *
+     * @param node The node
+     * @param path The JSON pointer of the node
+     * @param property The required property
+     * @param messages The messages
+     */
+    public static void required(JsonNode node, String path, String property, List<ValidationMessage> messages) {
+        if (node.isObject() && !node.has(property)) {
+            missingProperty(path, property, messages);
+        }
+    }
+
+    /**
+     * Report a property that is required by the {@code required} keyword but is not present.
+     *
+     * @param path The JSON pointer of the object
+     * @param property The property name
+     * @param messages The messages
+     */
+    public static void missingProperty(String path, String property, List<ValidationMessage> messages) {
+        messages.add(new DefaultValidationMessage(path + ": required property '" + property + "' not found"));
+    }
+
+    /**
+     * Report a property that is not allowed by the {@code additionalProperties} keyword.
+     *
+     * @param path The JSON pointer of the object
+     * @param property The property name
+     * @param messages The messages
+     */
+    public static void additionalProperty(String path, String property, List<ValidationMessage> messages) {
+        messages.add(new DefaultValidationMessage(path + ": property '" + property
+            + "' is not defined in the schema and the schema does not allow additional properties"));
+    }
+
+    /**
+     * Report the result of the {@code oneOf} keyword.
+     *
+     * @param path The JSON pointer of the node
+     * @param valid The number of valid schemas
+     * @param messages The messages
+     */
+    public static void oneOf(String path, int valid, List<ValidationMessage> messages) {
+        if (valid != 1) {
+            messages.add(new DefaultValidationMessage(path + ": must be valid to one and only one schema, but " + valid + " are valid"));
+        }
+    }
+
+    private static int length(JsonNode node) {
+        String value = node.textValue();
+        return value.codePointCount(0, value.length());
+    }
+
+    private static int nodeType(JsonNode node) {
+        return switch (node.getNodeType()) {
+            case ARRAY -> ARRAY;
+            case BOOLEAN -> BOOLEAN;
+            case NUMBER -> node.isIntegralNumber() ? INTEGER : NUMBER;
+            case OBJECT, POJO -> OBJECT;
+            case STRING, BINARY -> STRING;
+            default -> NULL;
+        };
+    }
+
+    private static String typeName(int type) {
+        return switch (type) {
+            case ARRAY -> "array";
+            case BOOLEAN -> "boolean";
+            case INTEGER -> "integer";
+            case NUMBER -> "number";
+            case OBJECT -> "object";
+            case STRING -> "string";
+            default -> "null";
+        };
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+/**
+ * The statistics of the cache of compiled JSON schemas in {@link JsonSchemaRegistry}.
+ *
+ * @param hitCount The number of times a compiled schema was found in the cache
+ * @param missCount The number of times a schema had to be compiled
+ * @param evictionCount The number of compiled schemas evicted from the cache
+ * @param size The number of compiled schemas in the cache
+ * @param weight The total weight of the compiled schemas in the cache
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+public record JsonSchemaCacheStatistics(
+    long hitCount,
+    long missCount,
+    long evictionCount,
+    long size,
+    long weight
+) {
+}
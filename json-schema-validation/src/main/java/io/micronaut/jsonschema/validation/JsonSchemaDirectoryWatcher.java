@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Watches the {@link JsonSchemaValidatorConfiguration#schemaDirectory()} and its subdirectories, and reloads the
+ * JSON schemas of the changed files in the background.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Singleton
+@Internal
+@Requires(property = JsonSchemaValidatorConfiguration.PREFIX + ".schema-directory")
+final class JsonSchemaDirectoryWatcher implements ApplicationEventListener<StartupEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonSchemaDirectoryWatcher.class);
+    private static final long DEBOUNCE_MILLIS = 100;
+
+    private final DefaultJsonSchemaRegistry registry;
+    private final Path directory;
+    // The watched directories by their key, as the events only contain the path relative to the directory
+    private final Map<WatchKey, Path> directoriesByKey = new ConcurrentHashMap<>();
+    private volatile WatchService watchService;
+
+    JsonSchemaDirectoryWatcher(DefaultJsonSchemaRegistry registry, JsonSchemaValidatorConfiguration config) {
+        this.registry = registry;
+        this.directory = Path.of(config.schemaDirectory()).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            registerAll(directory, null);
+        } catch (IOException e) {
+            LOG.error("Cannot watch the JSON schema directory {}, the schemas will not be reloaded", directory, e);
+            return;
+        }
+        Thread thread = new Thread(this::watch, "json-schema-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        LOG.info("Watching the JSON schema directory {}", directory);
+    }
+
+    /**
+     * Stop watching the directory.
+     *
+     * @throws IOException If the watch service cannot be closed
+     */
+    @PreDestroy
+    void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                // The paths of the changed schemas, or null if some events were lost
+                Set<String> changedPaths = pollSchemaChanges(key, new HashSet<>());
+                // An editor usually writes a file in several steps, so the following events are collected first
+                WatchKey next;
+                while ((next = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changedPaths = pollSchemaChanges(next, changedPaths);
+                }
+                if (changedPaths == null || !changedPaths.isEmpty()) {
+                    reload(changedPaths);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // The application is stopped
+        }
+    }
+
+    private void reload(@Nullable Set<String> changedPaths) {
+        try {
+            registry.reload(changedPaths);
+        } catch (RuntimeException e) {
+            LOG.error("Failed to reload the JSON schemas from {}", directory, e);
+        }
+    }
+
+    /**
+     * Add the schemas changed by the events of a key to the changed paths, and watch the created directories.
+     *
+     * @return The changed paths, or {@code null} if some events were lost and all the schemas must be reloaded
+     */
+    @Nullable
+    private Set<String> pollSchemaChanges(WatchKey key, @Nullable Set<String> changedPaths) {
+        Path parent = directoriesByKey.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || parent == null) {
+                changedPaths = null;
+            } else if (event.context() instanceof Path name) {
+                Path path = parent.resolve(name);
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                    // The files may have been created before the directory is watched
+                    changedPaths = registerCreated(path, changedPaths);
+                } else if (changedPaths != null && isSchema(path)) {
+                    changedPaths.add(registryPath(path));
+                }
+            }
+        }
+        if (!key.reset()) {
+            directoriesByKey.remove(key);
+        }
+        return changedPaths;
+    }
+
+    @Nullable
+    private Set<String> registerCreated(Path createdDirectory, @Nullable Set<String> changedPaths) {
+        try {
+            registerAll(createdDirectory, changedPaths);
+            return changedPaths;
+        } catch (IOException e) {
+            LOG.warn("Cannot watch the JSON schema directory {}", createdDirectory, e);
+            return null;
+        }
+    }
+
+    /**
+     * Watch a directory and all its subdirectories.
+     *
+     * @param root The directory
+     * @param changedPaths The changed paths to add the schemas found in the directories to, or {@code null}
+     */
+    private void registerAll(Path root, @Nullable Set<String> changedPaths) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (Files.isDirectory(path)) {
+                    WatchKey key = path.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE
+                    );
+                    directoriesByKey.put(key, path);
+                } else if (changedPaths != null && isSchema(path)) {
+                    changedPaths.add(registryPath(path));
+                }
+            }
+        }
+    }
+
+    private static boolean isSchema(Path path) {
+        return path.getFileName().toString().endsWith(DefaultJsonSchemaRegistry.SUFFIX);
+    }
+
+    /**
+     * @return The path of a schema file in the registry, which the file overrides on the classpath
+     */
+    private String registryPath(Path file) {
+        return registry.getSchemaFolder() + directory.relativize(file).toString().replace(File.separatorChar, '/');
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compiles all the JSON schemas in the {@link JsonSchemaValidatorConfiguration#classpathFolder()}
+ * and the {@link JsonSchemaValidatorConfiguration#schemaDirectory()} in parallel when the application starts,
+ * so that the first validations do not have to.
+ * The schemas on the classpath are the ones listed in the {@link JsonSchemaIndex} written by the annotation processor,
+ * since the classpath cannot be listed reliably.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Singleton
+@Internal
+@Requires(property = JsonSchemaValidatorConfiguration.PREFIX + ".eager-init", value = StringUtils.TRUE)
+final class JsonSchemaEagerInitializer implements ApplicationEventListener<StartupEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonSchemaEagerInitializer.class);
+
+    private final DefaultJsonSchemaRegistry registry;
+    private final JsonSchemaValidatorConfiguration config;
+    private final CompletableFuture<Void> initialization = new CompletableFuture<>();
+    private final Map<String, Throwable> failures = new ConcurrentHashMap<>();
+    private volatile int schemaCount;
+
+    JsonSchemaEagerInitializer(DefaultJsonSchemaRegistry registry, JsonSchemaValidatorConfiguration config) {
+        this.registry = registry;
+        this.config = config;
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        CompletableFuture.runAsync(this::compileSchemas)
+            .whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    LOG.error("Failed to compile the JSON schemas", throwable);
+                    initialization.completeExceptionally(throwable);
+                } else {
+                    initialization.complete(null);
+                }
+            });
+    }
+
+    /**
+     * @return The future that is completed once all the schemas are compiled
+     */
+    @NonNull
+    CompletableFuture<Void> getInitialization() {
+        return initialization;
+    }
+
+    /**
+     * @return The number of schemas found on the classpath and in the schema directory
+     */
+    int getSchemaCount() {
+        return schemaCount;
+    }
+
+    /**
+     * @return The failures of the schemas that could not be compiled by name
+     */
+    @NonNull
+    Map<String, Throwable> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    private void compileSchemas() {
+        long start = System.nanoTime();
+        Set<String> names = findIndexedSchemaNames(registry.getIndex(), config.classpathFolder());
+        Path schemaDirectory = registry.getSchemaDirectory();
+        if (schemaDirectory != null && Files.isDirectory(schemaDirectory)) {
+            try {
+                findFileSchemaNames(schemaDirectory, names);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        schemaCount = names.size();
+        String folder = registry.getSchemaFolder();
+        names.parallelStream().forEach(name -> {
+            long schemaStart = System.nanoTime();
+            try {
+                registry.getSchemaForPath(folder + name);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Compiled JSON schema {} in {}ms", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - schemaStart));
+                }
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to compile JSON schema {}", name, e);
+                failures.put(name, e);
+            }
+        });
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Compiled {} JSON schemas in {}ms", names.size() - failures.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    private static Set<String> findIndexedSchemaNames(JsonSchemaIndex index, String folder) {
+        Set<String> names = new TreeSet<>();
+        for (JsonSchemaIndex.Entry entry : index.entries()) {
+            if (entry.path().startsWith(folder) && entry.path().endsWith(DefaultJsonSchemaRegistry.SUFFIX)) {
+                names.add(entry.path().substring(folder.length()));
+            }
+        }
+        return names;
+    }
+
+    private static void findFileSchemaNames(Path directory, Set<String> names) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(Files::isRegularFile)
+                .map(file -> directory.relativize(file).toString().replace(File.separatorChar, '/'))
+                .filter(name -> name.endsWith(DefaultJsonSchemaRegistry.SUFFIX))
+                .forEach(names::add);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The index of the JSON schemas written by the annotation processor.
+ * It maps the name of each type annotated with {@link io.micronaut.jsonschema.JsonSchema}
+ * to the path and {@code $id} of its schema, so that schemas can be found without introspection.
+ * The processor writes a single resource with a well-known name, which is read by name,
+ * so that the classpath never needs to be listed. It is a line per type, with the type, the path,
+ * the {@code $id} and the entity tag separated by tabs, so that the indexes of several jars
+ * can be concatenated when they are shaded. The indexes of all the classpath entries are merged,
+ * and the first entry of a type wins, as the first class of a name does.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+public final class JsonSchemaIndex {
+
+    /**
+     * The path of the index on the classpath.
+     */
+    public static final String INDEX_PATH = "META-INF/micronaut/jsonschema/index";
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonSchemaIndex.class);
+    private static final String SEPARATOR = "\t";
+    private static final String COMMENT = "#";
+
+    private final Map<String, Entry> entries;
+
+    private JsonSchemaIndex(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Load and merge all the indexes.
+     *
+     * @param classLoader The class loader
+     * @return The index
+     */
+    @NonNull
+    public static JsonSchemaIndex load(@NonNull ClassLoader classLoader) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_PATH);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        addEntry(url, line, entries);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the JSON schema index", e);
+        }
+        LOG.debug("Loaded the JSON schema index with {} schemas", entries.size());
+        return new JsonSchemaIndex(entries);
+    }
+
+    private static void addEntry(URL url, String line, Map<String, Entry> entries) {
+        if (line.isBlank() || line.startsWith(COMMENT)) {
+            return;
+        }
+        String[] fields = line.split(SEPARATOR, -1);
+        if (fields.length < 2 || fields[0].isEmpty() || fields[1].isEmpty()) {
+            LOG.warn("Ignoring the malformed JSON schema index line [{}] of {}", line, url);
+            return;
+        }
+        String type = fields[0];
+        entries.putIfAbsent(type, new Entry(type, fields[1], field(fields, 2), field(fields, 3)));
+    }
+
+    private static String field(String[] fields, int index) {
+        return index < fields.length && !fields[index].isEmpty() ? fields[index] : null;
+    }
+
+    /**
+     * Find the schema of a type.
+     *
+     * @param type The type
+     * @return The index entry of the schema or empty if the type is not indexed
+     */
+    @NonNull
+    public Optional<Entry> find(@NonNull Class<?> type) {
+        return Optional.ofNullable(entries.get(type.getName()));
+    }
+
+    /**
+     * @return All the entries of the index
+     */
+    @NonNull
+    public Collection<Entry> entries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * An entry of the index.
+     *
+     * @param type The name of the annotated type
+     * @param path The path of the schema on the classpath
+     * @param id The {@code $id} of the schema
+     * @param etag The entity tag of the schema computed at build time, which is a digest of its content
+     */
+    public record Entry(
+        String type,
+        String path,
+        String id,
+        String etag
+    ) {
+    }
+}
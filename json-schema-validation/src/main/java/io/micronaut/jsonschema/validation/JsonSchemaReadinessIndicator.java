@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.HealthResult;
+import io.micronaut.management.health.indicator.annotation.Readiness;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A readiness indicator that is down until all the JSON schemas are compiled
+ * by {@link JsonSchemaEagerInitializer}.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Singleton
+@Readiness
+@Internal
+@Requires(classes = HealthIndicator.class)
+@Requires(beans = JsonSchemaEagerInitializer.class)
+final class JsonSchemaReadinessIndicator implements HealthIndicator {
+
+    private static final String NAME = "jsonSchemas";
+
+    private final JsonSchemaEagerInitializer initializer;
+
+    JsonSchemaReadinessIndicator(JsonSchemaEagerInitializer initializer) {
+        this.initializer = initializer;
+    }
+
+    @Override
+    public Publisher<HealthResult> getResult() {
+        HealthStatus status;
+        Map<String, Object> details = new LinkedHashMap<>();
+        if (!initializer.getInitialization().isDone()) {
+            status = HealthStatus.DOWN;
+        } else if (initializer.getInitialization().isCompletedExceptionally()) {
+            status = HealthStatus.DOWN;
+            initializer.getInitialization().exceptionally(throwable -> {
+                details.put("error", throwable.getMessage());
+                return null;
+            });
+        } else {
+            status = HealthStatus.UP;
+            details.put("schemas", initializer.getSchemaCount());
+            initializer.getFailures().forEach((name, failure) -> details.put(name, failure.getMessage()));
+        }
+        return Publishers.just(HealthResult.builder(NAME, status).details(details).build());
+    }
+}
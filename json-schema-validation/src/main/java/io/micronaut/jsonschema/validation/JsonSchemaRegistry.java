@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import com.networknt.schema.JsonSchema;
+import io.micronaut.context.annotation.DefaultImplementation;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * A registry of the compiled JSON schemas of the application.
+ * All the schemas are compiled by a single schema factory and are cached by their absolute
+ * {@code $id}, so that a schema referenced by many other schemas is only compiled once.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@DefaultImplementation(DefaultJsonSchemaRegistry.class)
+public interface JsonSchemaRegistry {
+
+    /**
+     * Get the compiled JSON schema generated for a type.
+     *
+     * @param type The type annotated with {@link io.micronaut.jsonschema.JsonSchema}
+     * @return The compiled schema
+     * @throws IllegalArgumentException If there is no schema for the type
+     */
+    @NonNull
+    JsonSchema getSchema(@NonNull Class<?> type);
+
+    /**
+     * Check whether a JSON schema was generated for a type, without compiling it.
+     *
+     * @param type The type
+     * @return Whether {@link #getSchema(Class)} can return a schema for the type
+     */
+    boolean hasSchema(@NonNull Class<?> type);
+
+    /**
+     * Get a compiled JSON schema by its {@code $id}.
+     *
+     * @param id The absolute {@code $id} of the schema, or its URI relative to {@link JsonSchemaValidatorConfiguration#baseUri()}
+     * @return The compiled schema
+     * @throws IllegalArgumentException If there is no schema with the given {@code $id}
+     */
+    @NonNull
+    JsonSchema getSchema(@NonNull String id);
+
+    /**
+     * Get the statistics of the cache of compiled JSON schemas.
+     * The size of the cache is configured with {@link JsonSchemaValidatorConfiguration#cacheMaximumSize()}
+     * or {@link JsonSchemaValidatorConfiguration#cacheMaximumWeight()}.
+     *
+     * @return The cache statistics
+     */
+    @NonNull
+    JsonSchemaCacheStatistics getCacheStatistics();
+
+}
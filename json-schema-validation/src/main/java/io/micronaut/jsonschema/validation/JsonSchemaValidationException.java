@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An exception signalling that a value is not valid based on a JSON schema.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+public class JsonSchemaValidationException extends RuntimeException {
+
+    private final transient Set<? extends ValidationMessage> messages;
+
+    /**
+     * Create the exception.
+     *
+     * @param messages The validation messages
+     */
+    public JsonSchemaValidationException(@NonNull Set<? extends ValidationMessage> messages) {
+        super("JSON schema validation failed: " + messages.stream()
+            .map(ValidationMessage::getMessage)
+            .collect(Collectors.joining(", ")));
+        this.messages = messages;
+    }
+
+    /**
+     * @return The validation messages
+     */
+    @NonNull
+    public Set<? extends ValidationMessage> getMessages() {
+        return messages;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * A listener that is notified of the validations of {@link JsonSchemaValidator} and the
+ * compilations of {@link JsonSchemaRegistry}, for example to record metrics.
+ * All the beans of this type are notified. The methods are called on the validating thread,
+ * so they should return quickly.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+public interface JsonSchemaValidationListener {
+
+    /**
+     * Called after a value is validated.
+     *
+     * @param type The type whose schema the value was validated against
+     * @param errorCount The number of validation messages, {@code 0} if the value is valid
+     * @param durationNanos The duration of the validation in nanoseconds
+     */
+    default void onValidated(@NonNull Class<?> type, int errorCount, long durationNanos) {
+    }
+
+    /**
+     * Called after a schema is compiled.
+     *
+     * @param id The {@code $id} of the schema, or its path if it has none
+     * @param durationNanos The duration of the compilation in nanoseconds
+     */
+    default void onSchemaCompiled(@NonNull String id, long durationNanos) {
+    }
+
+    /**
+     * Called when a compiled schema is found in the cache.
+     *
+     * @param id The {@code $id} of the schema, or its path if it has none
+     */
+    default void onCacheHit(@NonNull String id) {
+    }
+
+    /**
+     * Called when a schema is not found in the cache and has to be compiled.
+     *
+     * @param id The {@code $id} of the schema, or its path if it has none
+     */
+    default void onCacheMiss(@NonNull String id) {
+    }
+
+}
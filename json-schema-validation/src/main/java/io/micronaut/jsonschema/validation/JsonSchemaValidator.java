@@ -15,11 +15,23 @@
  */
 package io.micronaut.jsonschema.validation;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.micronaut.context.annotation.DefaultImplementation;
 import io.micronaut.core.annotation.NonNull;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
  * JSON Schema Validator.
@@ -55,4 +67,245 @@ public interface JsonSchemaValidator {
     @NonNull
     <T> Set<? extends ValidationMessage> validate(@NonNull Object value, @NonNull Class<T> type) throws IOException;
 
+    /**
+     * Validate UTF-8 encoded JSON based on a types JSON schema.
+     * The bytes are passed to the JSON parser without being decoded to a string first.
+     *
+     * @param value The UTF-8 encoded JSON value to validate
+     * @param type The type used to generate the JSON Schema
+     * @return A set of validation messages. Empty if valid.
+     * @param <T> Type used to generate the JSON Schema
+     * @throws IOException If an error occurs validating the JSON against the schema.
+     * @since 1.3.0
+     */
+    @NonNull
+    default <T> Set<? extends ValidationMessage> validate(@NonNull byte[] value, @NonNull Class<T> type) throws IOException {
+        return validate(new String(value, StandardCharsets.UTF_8), type);
+    }
+
+    /**
+     * Validate JSON read from a stream based on a types JSON schema.
+     * The stream is not closed by this method.
+     *
+     * @param value The stream of the JSON value to validate
+     * @param type The type used to generate the JSON Schema
+     * @return A set of validation messages. Empty if valid.
+     * @param <T> Type used to generate the JSON Schema
+     * @throws IOException If an error occurs reading the stream or validating the JSON against the schema.
+     * @since 1.3.0
+     */
+    @NonNull
+    default <T> Set<? extends ValidationMessage> validate(@NonNull InputStream value, @NonNull Class<T> type) throws IOException {
+        return validate(value.readAllBytes(), type);
+    }
+
+    /**
+     * Validate UTF-8 encoded JSON based on a types JSON schema.
+     * The JSON is read from the position to the limit of the buffer, the position of the buffer is not changed.
+     *
+     * @param value The buffer containing the UTF-8 encoded JSON value to validate
+     * @param type The type used to generate the JSON Schema
+     * @return A set of validation messages. Empty if valid.
+     * @param <T> Type used to generate the JSON Schema
+     * @throws IOException If an error occurs validating the JSON against the schema.
+     * @since 1.3.0
+     */
+    @NonNull
+    default <T> Set<? extends ValidationMessage> validate(@NonNull ByteBuffer value, @NonNull Class<T> type) throws IOException {
+        ByteBuffer buffer = value.duplicate();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return validate(bytes, type);
+    }
+
+    /**
+     * Check whether JSON is valid based on a types JSON schema.
+     * The validation stops at the first error, so this is cheaper than {@link #validate(String, Class)}.
+     *
+     * @param value JSON value to check
+     * @param type The type used to generate the JSON Schema
+     * @return Whether the value is valid
+     * @param <T> Type used to generate the JSON Schema
+     * @throws IOException If an error occurs validating the JSON against the schema.
+     * @since 1.3.0
+     */
+    default <T> boolean isValid(@NonNull String value, @NonNull Class<T> type) throws IOException {
+        return validate(value, type).isEmpty();
+    }
+
+    /**
+     * Check whether an object is valid based on a types JSON schema.
+     * The validation stops at the first error, so this is cheaper than {@link #validate(Object, Class)}.
+     *
+     * @param value Object to check against a JSON schema
+     * @param type The type used to generate the JSON Schema
+     * @return Whether the value is valid
+     * @param <T> Type used to generate the JSON Schema
+     * @throws IOException If an error occurs validating the JSON against the schema.
+     * @since 1.3.0
+     */
+    default <T> boolean isValid(@NonNull Object value, @NonNull Class<T> type) throws IOException {
+        return validate(value, type).isEmpty();
+    }
+
+    /**
+     * Check whether JSON is valid based on a types JSON schema.
+     * The validation stops at the first error, so this is cheaper than {@link #validate(byte[], Class)}.
+     *
+     * @param value The UTF-8 encoded JSON value to check
+     * @param type The type used to generate the JSON Schema
+     * @return Whether the value is valid
+     * @param <T> Type used to generate the JSON Schema
+     * @throws IOException If an error occurs validating the JSON against the schema.
+     * @since 1.3.0
+     */
+    default <T> boolean isValid(@NonNull byte[] value, @NonNull Class<T> type) throws IOException {
+        return validate(value, type).isEmpty();
+    }
+
+    /**
+     * Check whether JSON is valid based on a types JSON schema.
+     * The validation stops at the first error, so this is cheaper than {@link #validate(InputStream, Class)}.
+     *
+     * @param value The stream of the JSON value to check, which is not closed by this method
+     * @param type The type used to generate the JSON Schema
+     * @return Whether the value is valid
+     * @param <T> Type used to generate the JSON Schema
+     * @throws IOException If an error occurs validating the JSON against the schema.
+     * @since 1.3.0
+     */
+    default <T> boolean isValid(@NonNull InputStream value, @NonNull Class<T> type) throws IOException {
+        return validate(value, type).isEmpty();
+    }
+
+    /**
+     * Check whether JSON is valid based on a types JSON schema.
+     * The validation stops at the first error, so this is cheaper than {@link #validate(ByteBuffer, Class)}.
+     *
+     * @param value The buffer containing the UTF-8 encoded JSON value to check
+     * @param type The type used to generate the JSON Schema
+     * @return Whether the value is valid
+     * @param <T> Type used to generate the JSON Schema
+     * @throws IOException If an error occurs validating the JSON against the schema.
+     * @since 1.3.0
+     */
+    default <T> boolean isValid(@NonNull ByteBuffer value, @NonNull Class<T> type) throws IOException {
+        return validate(value, type).isEmpty();
+    }
+
+    /**
+     * Validate a JSON file based on a types JSON schema.
+     *
+     * @param file The path of the UTF-8 encoded JSON file to validate
+     * @param type The type used to generate the JSON Schema
+     * @return A set of validation messages. Empty if valid.
+     * @param <T> Type used to generate the JSON Schema
+     * @throws IOException If an error occurs reading the file or validating the JSON against the schema.
+     * @since 1.3.0
+     */
+    @NonNull
+    default <T> Set<? extends ValidationMessage> validateFile(@NonNull Path file, @NonNull Class<T> type) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return validate(inputStream, type);
+        }
+    }
+
+    /**
+     * Start a validation of UTF-8 encoded JSON that is fed in chunks, based on a types JSON schema.
+     * When the schema can be checked while streaming, every chunk is validated as soon as it is fed,
+     * so an invalid JSON can be rejected before the rest of it is read.
+     * Otherwise, the chunks are buffered and the whole JSON is validated once the input is complete.
+     *
+     * @param type The type used to generate the JSON Schema
+     * @return The validation to feed the chunks to
+     * @param <T> Type used to generate the JSON Schema
+     * @since 1.3.0
+     */
+    @NonNull
+    default <T> IncrementalValidation validateIncrementally(@NonNull Class<T> type) {
+        return new BufferedIncrementalValidation<>(this, type);
+    }
+
+    /**
+     * Validate many values based on the JSON schema of a single type.
+     * The values that are a {@link CharSequence} or a {@code byte[]} are validated as JSON,
+     * the other values as objects.
+     * The validations may run in parallel.
+     *
+     * @param values The values to validate
+     * @param type The type used to generate the JSON Schema
+     * @return The validation messages of each value, at the same index as the value. Empty if valid.
+     * @param <T> Type used to generate the JSON Schema
+     * @throws IOException If an error occurs validating the JSON against the schema.
+     * @since 1.3.0
+     */
+    @NonNull
+    default <T> List<Set<? extends ValidationMessage>> validateAll(@NonNull List<?> values, @NonNull Class<T> type) throws IOException {
+        List<Set<? extends ValidationMessage>> result = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value instanceof CharSequence json) {
+                result.add(validate(json.toString(), type));
+            } else if (value instanceof byte[] bytes) {
+                result.add(validate(bytes, type));
+            } else {
+                result.add(validate(value, type));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Validate newline-delimited JSON (also known as JSON Lines) based on a types JSON schema.
+     * Every line is validated as a separate JSON value, blank lines are ignored.
+     * A line that is not valid JSON is reported with a validation message.
+     * The stream is read line by line and is not closed by this method.
+     *
+     * @param value The stream of UTF-8 encoded newline-delimited JSON
+     * @param type The type used to generate the JSON Schema
+     * @return The validation messages of the invalid lines by line number, starting from 1. Empty if all the lines are valid.
+     * @param <T> Type used to generate the JSON Schema
+     * @throws IOException If an error occurs reading the stream.
+     * @since 1.3.0
+     */
+    @NonNull
+    default <T> SortedMap<Long, Set<? extends ValidationMessage>> validateLines(@NonNull InputStream value, @NonNull Class<T> type) throws IOException {
+        SortedMap<Long, Set<? extends ValidationMessage>> result = new TreeMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(value, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            ++lineNumber;
+            if (!line.isBlank()) {
+                Set<? extends ValidationMessage> messages;
+                try {
+                    messages = validate(line, type);
+                } catch (JsonProcessingException e) {
+                    messages = Set.of(DefaultValidationMessage.invalidJson(e));
+                }
+                if (!messages.isEmpty()) {
+                    result.put(lineNumber, messages);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Validate a file of newline-delimited JSON (also known as JSON Lines) based on a types JSON schema.
+     *
+     * @param file The path of the UTF-8 encoded newline-delimited JSON file
+     * @param type The type used to generate the JSON Schema
+     * @return The validation messages of the invalid lines by line number, starting from 1. Empty if all the lines are valid.
+     * @param <T> Type used to generate the JSON Schema
+     * @throws IOException If an error occurs reading the file.
+     * @see #validateLines(InputStream, Class)
+     * @since 1.3.0
+     */
+    @NonNull
+    default <T> SortedMap<Long, Set<? extends ValidationMessage>> validateLines(@NonNull Path file, @NonNull Class<T> type) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return validateLines(inputStream, type);
+        }
+    }
+
 }
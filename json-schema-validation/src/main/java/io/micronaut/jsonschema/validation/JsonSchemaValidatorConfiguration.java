@@ -16,7 +16,10 @@
 package io.micronaut.jsonschema.validation;
 
 import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Creator;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.bind.annotation.Bindable;
+import io.micronaut.scheduling.TaskExecutors;
 
 /**
  * A configuration for {@link JsonSchemaValidator}.
@@ -25,6 +28,26 @@ import io.micronaut.core.bind.annotation.Bindable;
  *
  * @param baseUri The base URI for JSON schemas to be validated
  * @param classpathFolder THe folder where the JSON schemas are located, on the classpath
+ * @param introspectObjects Whether to read the values of objects through bean introspection
+ *                          instead of serializing them to JSON before validation.
+ *                          Objects that are not introspected are still serialized.
+ * @param streaming Whether to validate JSON token by token while it is parsed, without reading it into a tree.
+ *                  Schemas with keywords that cannot be validated in a single pass are still validated on a tree.
+ * @param maxErrors The maximum number of validation messages to return. The validation stops once it is reached.
+ *                  The default value {@code 0} means that all the messages are returned.
+ * @param executor The name of the executor used by {@link AsyncJsonSchemaValidator}.
+ *                 The default blocking executor uses virtual threads when they are available.
+ * @param eagerInit Whether to compile all the JSON schemas in the classpath folder and the schema directory when the application starts.
+ *                  A readiness health indicator is down until the compilation finishes.
+ * @param cacheMaximumSize The maximum number of compiled JSON schemas to cache.
+ *                         The least recently used schemas are evicted once it is exceeded.
+ *                         The default value {@code 0} means that the cache is unbounded, so that the schemas
+ *                         compiled on startup are never evicted.
+ * @param cacheMaximumWeight The maximum total weight of the compiled JSON schemas to cache, where the weight
+ *                           of a schema is the number of nodes in its JSON document. When it is positive, it
+ *                           is used instead of {@code cacheMaximumSize}.
+ * @param schemaDirectory A directory with JSON schemas that override the schemas in the classpath folder.
+ *                        The directory is watched and the schemas are recompiled when its files change.
  *
  * @author Andriy Dmytruk
  * @since 1.0.0
@@ -34,7 +57,23 @@ public record JsonSchemaValidatorConfiguration(
     @Bindable(defaultValue = "http://localhost:8080/schemas/")
     String baseUri,
     @Bindable(defaultValue = "META-INF/schemas/")
-    String classpathFolder
+    String classpathFolder,
+    @Bindable(defaultValue = "false")
+    boolean introspectObjects,
+    @Bindable(defaultValue = "false")
+    boolean streaming,
+    @Bindable(defaultValue = "0")
+    int maxErrors,
+    @Bindable(defaultValue = TaskExecutors.BLOCKING)
+    String executor,
+    @Bindable(defaultValue = "false")
+    boolean eagerInit,
+    @Bindable(defaultValue = "0")
+    long cacheMaximumSize,
+    @Bindable(defaultValue = "0")
+    long cacheMaximumWeight,
+    @Nullable
+    String schemaDirectory
 ) {
 
     /**
@@ -42,4 +81,22 @@ public record JsonSchemaValidatorConfiguration(
      */
     public static final String PREFIX = "micronaut.jsonschema.validation";
 
+    /**
+     * The constructor with all the settings, which is used for binding the configuration.
+     */
+    @Creator
+    public JsonSchemaValidatorConfiguration {
+    }
+
+    /**
+     * A configuration with the default values of the settings added in 1.3.0.
+     * It keeps the constructor of the previous versions, for compatibility.
+     *
+     * @param baseUri The base URI for JSON schemas to be validated
+     * @param classpathFolder The folder where the JSON schemas are located, on the classpath
+     */
+    public JsonSchemaValidatorConfiguration(String baseUri, String classpathFolder) {
+        this(baseUri, classpathFolder, false, false, 0, TaskExecutors.BLOCKING, false, 0, 0, null);
+    }
+
 }
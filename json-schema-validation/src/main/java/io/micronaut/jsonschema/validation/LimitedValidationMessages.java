@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * A list of validation messages that stops the validation once it contains the maximum
+ * number of messages, by throwing a {@link LimitReachedException}.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+final class LimitedValidationMessages extends ArrayList<ValidationMessage> {
+
+    private final int limit;
+
+    /**
+     * Create the list.
+     *
+     * @param limit The maximum number of messages, or 0 for no limit
+     */
+    LimitedValidationMessages(int limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    public boolean add(ValidationMessage message) {
+        super.add(message);
+        if (limit > 0 && size() >= limit) {
+            throw LimitReachedException.INSTANCE;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends ValidationMessage> messages) {
+        for (ValidationMessage message : messages) {
+            add(message);
+        }
+        return !messages.isEmpty();
+    }
+
+    /**
+     * The exception thrown to stop the validation once the limit is reached.
+     */
+    static final class LimitReachedException extends RuntimeException {
+
+        private static final LimitReachedException INSTANCE = new LimitReachedException();
+
+        private LimitReachedException() {
+            super("The maximum number of validation messages is reached", null, false, false);
+        }
+    }
+}
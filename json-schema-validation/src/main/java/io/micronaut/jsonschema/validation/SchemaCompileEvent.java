@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.core.annotation.Internal;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for the compilation of a JSON schema.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+@Name(SchemaCompileEvent.NAME)
+@Label("JSON Schema Compilation")
+@Description("The compilation of a JSON schema")
+@Category({"Micronaut", "JSON Schema"})
+@StackTrace(false)
+final class SchemaCompileEvent extends Event {
+
+    static final String NAME = "io.micronaut.jsonschema.SchemaCompile";
+
+    @Label("Schema")
+    @Description("The $id of the schema, or its path if it has none")
+    String schema;
+}
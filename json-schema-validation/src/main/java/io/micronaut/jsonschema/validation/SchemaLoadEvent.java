@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.core.annotation.Internal;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for the reading of a JSON schema from the classpath or the schema directory.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+@Name(SchemaLoadEvent.NAME)
+@Label("JSON Schema Load")
+@Description("The reading of a JSON schema")
+@Category({"Micronaut", "JSON Schema"})
+@StackTrace(false)
+final class SchemaLoadEvent extends Event {
+
+    static final String NAME = "io.micronaut.jsonschema.SchemaLoad";
+
+    @Label("Path")
+    @Description("The path of the schema")
+    String path;
+
+    @Label("Size")
+    @Description("The size of the schema")
+    @DataAmount(DataAmount.BYTES)
+    long size;
+}
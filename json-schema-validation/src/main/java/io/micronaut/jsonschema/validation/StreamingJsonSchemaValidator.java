@@ -0,0 +1,559 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A validator that checks a JSON document token by token while it is being parsed.
+ * The document is never read into a tree, the only state kept is the one of the objects
+ * and arrays that are currently open. Therefore, the memory usage depends on the nesting
+ * depth of the document, but not on its size.
+ *
+ * <p>Only the keywords that can be checked in a single pass are supported. The
+ * {@link #compile(JsonNode)} method returns an empty optional for any other schema.</p>
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+final class StreamingJsonSchemaValidator {
+
+    private static final Set<String> ANNOTATION_KEYWORDS = Set.of(
+        "$schema", "$id", "$comment", "title", "description", "default", "examples", "deprecated", "readOnly", "writeOnly"
+    );
+    private static final Map<String, Integer> TYPES = Map.of(
+        "array", JsonSchemaAssertions.ARRAY,
+        "boolean", JsonSchemaAssertions.BOOLEAN,
+        "null", JsonSchemaAssertions.NULL,
+        "integer", JsonSchemaAssertions.INTEGER,
+        "number", JsonSchemaAssertions.NUMBER,
+        "object", JsonSchemaAssertions.OBJECT,
+        "string", JsonSchemaAssertions.STRING
+    );
+    private static final ObjectNode OBJECT_PLACEHOLDER = JsonNodeFactory.instance.objectNode();
+    private static final ArrayNode ARRAY_PLACEHOLDER = JsonNodeFactory.instance.arrayNode();
+
+    private final SchemaNode root;
+
+    private StreamingJsonSchemaValidator(SchemaNode root) {
+        this.root = root;
+    }
+
+    /**
+     * Create a streaming validator for a schema.
+     *
+     * @param schema The schema
+     * @return The validator or an empty optional if the schema has keywords that cannot be checked while streaming
+     */
+    @NonNull
+    static Optional<StreamingJsonSchemaValidator> compile(@NonNull JsonNode schema) {
+        try {
+            return Optional.of(new StreamingJsonSchemaValidator(compileSchema(schema)));
+        } catch (UnsupportedSchemaException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Validate the next JSON value of the parser.
+     *
+     * @param parser The parser positioned before the value
+     * @param messages The list to add validation messages to
+     * @throws IOException If the JSON cannot be parsed
+     */
+    void validate(@NonNull JsonParser parser, @NonNull List<ValidationMessage> messages) throws IOException {
+        if (parser.nextToken() == null) {
+            throw new JsonParseException(parser, "No JSON content to validate");
+        }
+        validate(parser, root, "", messages);
+    }
+
+    /**
+     * Start a validation that is driven by the tokens of a non-blocking parser.
+     * Unlike {@link #validate(JsonParser, List)}, the state of the open objects and arrays is kept
+     * in the returned instance, so the validation can be suspended whenever the parser needs more input.
+     *
+     * @param messages The list to add validation messages to
+     * @return The validation to pass the tokens to
+     */
+    @NonNull
+    Incremental incremental(@NonNull List<ValidationMessage> messages) {
+        return new Incremental(root, messages);
+    }
+
+    private static void validate(JsonParser parser, @Nullable SchemaNode schema, String path, List<ValidationMessage> messages) throws IOException {
+        if (schema == null) {
+            parser.skipChildren();
+            return;
+        }
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            validateGeneric(OBJECT_PLACEHOLDER, schema, path, messages);
+            validateObject(parser, schema, path, messages);
+        } else if (token == JsonToken.START_ARRAY) {
+            validateGeneric(ARRAY_PLACEHOLDER, schema, path, messages);
+            validateArray(parser, schema, path, messages);
+        } else {
+            JsonNode node = readScalar(parser);
+            validateGeneric(node, schema, path, messages);
+            validateScalar(node, schema, path, messages);
+        }
+    }
+
+    private static void validateGeneric(JsonNode node, SchemaNode schema, String path, List<ValidationMessage> messages) {
+        if (schema.types != 0) {
+            JsonSchemaAssertions.type(node, path, schema.types, schema.expectedTypes, messages);
+        }
+        if (schema.constValue != null) {
+            JsonSchemaAssertions.constValue(node, path, schema.constValue, messages);
+        }
+        if (schema.enumValues != null) {
+            JsonSchemaAssertions.enumValues(node, path, schema.enumValues, messages);
+        }
+    }
+
+    private static void validateScalar(JsonNode node, SchemaNode schema, String path, List<ValidationMessage> messages) {
+        if (schema.minLength != null) {
+            JsonSchemaAssertions.minLength(node, path, schema.minLength, messages);
+        }
+        if (schema.maxLength != null) {
+            JsonSchemaAssertions.maxLength(node, path, schema.maxLength, messages);
+        }
+        if (schema.pattern != null) {
+            JsonSchemaAssertions.pattern(node, path, schema.pattern, messages);
+        }
+        if (schema.minimum != null) {
+            JsonSchemaAssertions.minimum(node, path, schema.minimum, messages);
+        }
+        if (schema.maximum != null) {
+            JsonSchemaAssertions.maximum(node, path, schema.maximum, messages);
+        }
+        if (schema.exclusiveMinimum != null) {
+            JsonSchemaAssertions.exclusiveMinimum(node, path, schema.exclusiveMinimum, messages);
+        }
+        if (schema.exclusiveMaximum != null) {
+            JsonSchemaAssertions.exclusiveMaximum(node, path, schema.exclusiveMaximum, messages);
+        }
+    }
+
+    private static void validateObject(JsonParser parser, SchemaNode schema, String path, List<ValidationMessage> messages) throws IOException {
+        Set<String> missing = schema.required.isEmpty() ? Collections.emptySet() : new LinkedHashSet<>(schema.required);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (!missing.isEmpty()) {
+                missing.remove(name);
+            }
+            if (schema.properties.containsKey(name)) {
+                validateChild(parser, schema.properties.get(name), path, name, messages);
+            } else if (!schema.additionalPropertiesAllowed) {
+                JsonSchemaAssertions.additionalProperty(path, name, messages);
+                parser.skipChildren();
+            } else {
+                validateChild(parser, schema.additionalProperties, path, name, messages);
+            }
+        }
+        for (String property : missing) {
+            JsonSchemaAssertions.missingProperty(path, property, messages);
+        }
+    }
+
+    private static void validateChild(JsonParser parser, @Nullable SchemaNode schema, String path, String name, List<ValidationMessage> messages) throws IOException {
+        if (schema == null) {
+            parser.skipChildren();
+        } else {
+            validate(parser, schema, JsonSchemaAssertions.child(path, name), messages);
+        }
+    }
+
+    private static void validateArray(JsonParser parser, SchemaNode schema, String path, List<ValidationMessage> messages) throws IOException {
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (schema.items == null) {
+                parser.skipChildren();
+            } else {
+                validate(parser, schema.items, JsonSchemaAssertions.child(path, size), messages);
+            }
+            ++size;
+        }
+        if (schema.minItems != null) {
+            JsonSchemaAssertions.minItems(size, path, schema.minItems, messages);
+        }
+        if (schema.maxItems != null) {
+            JsonSchemaAssertions.maxItems(size, path, schema.maxItems, messages);
+        }
+    }
+
+    private static JsonNode readScalar(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        return switch (token) {
+            case VALUE_STRING -> TextNode.valueOf(parser.getText());
+            case VALUE_NUMBER_INT -> switch (parser.getNumberType()) {
+                case INT -> IntNode.valueOf(parser.getIntValue());
+                case LONG -> LongNode.valueOf(parser.getLongValue());
+                default -> BigIntegerNode.valueOf(parser.getBigIntegerValue());
+            };
+            case VALUE_NUMBER_FLOAT -> parser.getNumberType() == JsonParser.NumberType.BIG_DECIMAL
+                ? DecimalNode.valueOf(parser.getDecimalValue())
+                : DoubleNode.valueOf(parser.getDoubleValue());
+            case VALUE_TRUE -> BooleanNode.TRUE;
+            case VALUE_FALSE -> BooleanNode.FALSE;
+            case VALUE_NULL -> NullNode.getInstance();
+            default -> throw new JsonParseException(parser, "Unexpected token " + token);
+        };
+    }
+
+    /**
+     * Compile a schema.
+     *
+     * @param schema The schema
+     * @return The compiled schema or null if any value is allowed
+     */
+    @Nullable
+    private static SchemaNode compileSchema(JsonNode schema) {
+        if (schema.isBoolean()) {
+            if (schema.booleanValue()) {
+                return null;
+            }
+            throw new UnsupportedSchemaException();
+        }
+        if (!schema.isObject()) {
+            throw new UnsupportedSchemaException();
+        }
+        SchemaNode node = new SchemaNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = schema.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case "type" -> compileType(value, node);
+                case "const" -> node.constValue = scalar(value);
+                case "enum" -> {
+                    if (!value.isArray()) {
+                        throw new UnsupportedSchemaException();
+                    }
+                    value.forEach(StreamingJsonSchemaValidator::scalar);
+                    node.enumValues = value;
+                }
+                case "minLength" -> node.minLength = integer(value);
+                case "maxLength" -> node.maxLength = integer(value);
+                case "pattern" -> node.pattern = Pattern.compile(text(value));
+                case "minimum" -> node.minimum = decimal(value);
+                case "maximum" -> node.maximum = decimal(value);
+                case "exclusiveMinimum" -> node.exclusiveMinimum = decimal(value);
+                case "exclusiveMaximum" -> node.exclusiveMaximum = decimal(value);
+                case "minItems" -> node.minItems = integer(value);
+                case "maxItems" -> node.maxItems = integer(value);
+                case "items" -> node.items = compileSchema(value);
+                case "properties" -> {
+                    if (!value.isObject()) {
+                        throw new UnsupportedSchemaException();
+                    }
+                    node.properties = new HashMap<>();
+                    value.fields().forEachRemaining(property -> node.properties.put(property.getKey(), compileSchema(property.getValue())));
+                }
+                case "required" -> {
+                    if (!value.isArray()) {
+                        throw new UnsupportedSchemaException();
+                    }
+                    node.required = new ArrayList<>(value.size());
+                    value.forEach(required -> node.required.add(text(required)));
+                }
+                case "additionalProperties" -> {
+                    if (value.isBoolean() && !value.booleanValue()) {
+                        node.additionalPropertiesAllowed = false;
+                    } else {
+                        node.additionalProperties = compileSchema(value);
+                    }
+                }
+                default -> {
+                    if (!ANNOTATION_KEYWORDS.contains(field.getKey())) {
+                        throw new UnsupportedSchemaException();
+                    }
+                }
+            }
+        }
+        return node;
+    }
+
+    private static void compileType(JsonNode value, SchemaNode node) {
+        List<String> names = new ArrayList<>();
+        if (value.isTextual()) {
+            names.add(value.textValue());
+        } else if (value.isArray()) {
+            value.forEach(type -> names.add(text(type)));
+        } else {
+            throw new UnsupportedSchemaException();
+        }
+        for (String name : names) {
+            Integer type = TYPES.get(name);
+            if (type == null) {
+                throw new UnsupportedSchemaException();
+            }
+            node.types |= type;
+        }
+        node.expectedTypes = "[" + String.join(", ", names) + "]";
+    }
+
+    private static JsonNode scalar(JsonNode value) {
+        if (value.isContainerNode()) {
+            throw new UnsupportedSchemaException();
+        }
+        return value;
+    }
+
+    private static String text(JsonNode value) {
+        if (!value.isTextual()) {
+            throw new UnsupportedSchemaException();
+        }
+        return value.textValue();
+    }
+
+    private static int integer(JsonNode value) {
+        if (!value.canConvertToExactIntegral() || !value.canConvertToInt()) {
+            throw new UnsupportedSchemaException();
+        }
+        return value.intValue();
+    }
+
+    private static BigDecimal decimal(JsonNode value) {
+        if (!value.isNumber()) {
+            throw new UnsupportedSchemaException();
+        }
+        return value.decimalValue();
+    }
+
+    /**
+     * A compiled schema. The fields that are null are not checked.
+     */
+    private static final class SchemaNode {
+        private int types;
+        private String expectedTypes;
+        private JsonNode constValue;
+        private JsonNode enumValues;
+        private Integer minLength;
+        private Integer maxLength;
+        private Pattern pattern;
+        private BigDecimal minimum;
+        private BigDecimal maximum;
+        private BigDecimal exclusiveMinimum;
+        private BigDecimal exclusiveMaximum;
+        private Integer minItems;
+        private Integer maxItems;
+        private SchemaNode items;
+        private Map<String, SchemaNode> properties = Collections.emptyMap();
+        private List<String> required = Collections.emptyList();
+        private boolean additionalPropertiesAllowed = true;
+        private SchemaNode additionalProperties;
+    }
+
+    /**
+     * A validation of a single JSON value that receives the tokens one by one.
+     */
+    static final class Incremental {
+
+        private final SchemaNode root;
+        private final List<ValidationMessage> messages;
+        private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+        private int skippedDepth;
+        private boolean started;
+        private boolean complete;
+
+        private Incremental(@Nullable SchemaNode root, List<ValidationMessage> messages) {
+            this.root = root;
+            this.messages = messages;
+        }
+
+        /**
+         * Validate the current token of the parser.
+         *
+         * @param parser The parser positioned on a token other than {@link JsonToken#NOT_AVAILABLE}
+         * @return Whether the JSON value is complete
+         * @throws IOException If the JSON cannot be parsed
+         */
+        boolean accept(@NonNull JsonParser parser) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (skippedDepth > 0) {
+                if (token.isStructStart()) {
+                    ++skippedDepth;
+                } else if (token.isStructEnd() && --skippedDepth == 0) {
+                    valueCompleted();
+                }
+                return complete;
+            }
+            switch (token) {
+                case FIELD_NAME -> frames.element().field(parser.currentName(), messages);
+                case END_OBJECT -> {
+                    frames.pop().endObject(messages);
+                    valueCompleted();
+                }
+                case END_ARRAY -> {
+                    frames.pop().endArray(messages);
+                    valueCompleted();
+                }
+                default -> startValue(parser, token);
+            }
+            return complete;
+        }
+
+        /**
+         * @return Whether the JSON value is complete
+         */
+        boolean isComplete() {
+            return complete;
+        }
+
+        /**
+         * @return Whether any token was passed to the validation
+         */
+        boolean isStarted() {
+            return started;
+        }
+
+        private void startValue(JsonParser parser, JsonToken token) throws IOException {
+            started = true;
+            Frame parent = frames.peek();
+            SchemaNode schema;
+            String path;
+            if (parent == null) {
+                schema = root;
+                path = "";
+            } else if (parent.array) {
+                int index = parent.size++;
+                schema = parent.schema.items;
+                path = schema == null ? null : JsonSchemaAssertions.child(parent.path, index);
+            } else {
+                schema = parent.fieldSchema;
+                path = parent.fieldPath;
+            }
+            if (schema == null) {
+                if (token.isStructStart()) {
+                    skippedDepth = 1;
+                } else {
+                    valueCompleted();
+                }
+            } else if (token == JsonToken.START_OBJECT) {
+                validateGeneric(OBJECT_PLACEHOLDER, schema, path, messages);
+                frames.push(new Frame(schema, path, false));
+            } else if (token == JsonToken.START_ARRAY) {
+                validateGeneric(ARRAY_PLACEHOLDER, schema, path, messages);
+                frames.push(new Frame(schema, path, true));
+            } else {
+                JsonNode node = readScalar(parser);
+                validateGeneric(node, schema, path, messages);
+                validateScalar(node, schema, path, messages);
+                valueCompleted();
+            }
+        }
+
+        private void valueCompleted() {
+            if (frames.isEmpty()) {
+                complete = true;
+            }
+        }
+    }
+
+    /**
+     * The state of an object or an array that is open during an incremental validation.
+     */
+    private static final class Frame {
+        private final SchemaNode schema;
+        private final String path;
+        private final boolean array;
+        private final Set<String> missing;
+        private int size;
+        private SchemaNode fieldSchema;
+        private String fieldPath;
+
+        private Frame(SchemaNode schema, String path, boolean array) {
+            this.schema = schema;
+            this.path = path;
+            this.array = array;
+            this.missing = array || schema.required.isEmpty() ? Collections.emptySet() : new LinkedHashSet<>(schema.required);
+        }
+
+        private void field(String name, List<ValidationMessage> messages) {
+            if (!missing.isEmpty()) {
+                missing.remove(name);
+            }
+            if (schema.properties.containsKey(name)) {
+                fieldSchema = schema.properties.get(name);
+            } else if (!schema.additionalPropertiesAllowed) {
+                JsonSchemaAssertions.additionalProperty(path, name, messages);
+                fieldSchema = null;
+            } else {
+                fieldSchema = schema.additionalProperties;
+            }
+            fieldPath = fieldSchema == null ? null : JsonSchemaAssertions.child(path, name);
+        }
+
+        private void endObject(List<ValidationMessage> messages) {
+            for (String property : missing) {
+                JsonSchemaAssertions.missingProperty(path, property, messages);
+            }
+        }
+
+        private void endArray(List<ValidationMessage> messages) {
+            if (schema.minItems != null) {
+                JsonSchemaAssertions.minItems(size, path, schema.minItems, messages);
+            }
+            if (schema.maxItems != null) {
+                JsonSchemaAssertions.maxItems(size, path, schema.maxItems, messages);
+            }
+        }
+    }
+
+    /**
+     * An exception thrown while compiling a schema that cannot be checked while streaming.
+     */
+    private static final class UnsupportedSchemaException extends RuntimeException {
+        private UnsupportedSchemaException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.core.annotation.Internal;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A publisher that validates each element of a source publisher asynchronously.
+ * The elements are requested from the source one at a time, so they are emitted in order and
+ * at most one validation of the stream is running at any time.
+ *
+ * <p>The signals of the source, of the validations and of the subscriber only record their effect and
+ * then drain the state in a loop that a single thread runs at a time, so the signals to the subscriber
+ * are serialized. A completion of the source is only emitted once the pending validation is done.</p>
+ *
+ * @param <T> The type of the elements
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+final class ValidatingPublisher<T> implements Publisher<T> {
+
+    private final Publisher<T> source;
+    private final Function<T, CompletableFuture<Set<? extends ValidationMessage>>> validation;
+
+    ValidatingPublisher(Publisher<T> source, Function<T, CompletableFuture<Set<? extends ValidationMessage>>> validation) {
+        this.source = source;
+        this.validation = validation;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        source.subscribe(new ValidatingSubscriber(subscriber));
+    }
+
+    private final class ValidatingSubscriber implements Subscriber<T>, Subscription {
+
+        private final Subscriber<? super T> downstream;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile Subscription upstream;
+        // The element that is being validated, and whether its validation succeeded
+        private volatile T pending;
+        private volatile boolean validated;
+        private volatile boolean done;
+        private volatile Throwable error;
+        private volatile Throwable failure;
+        private volatile boolean cancelled;
+        // Only accessed by the thread that drains
+        private boolean requested;
+
+        ValidatingSubscriber(Subscriber<? super T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T value) {
+            pending = value;
+            CompletableFuture<Set<? extends ValidationMessage>> future;
+            try {
+                future = validation.apply(value);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((messages, throwable) -> {
+                if (throwable != null) {
+                    failure = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                } else if (!messages.isEmpty()) {
+                    failure = new JsonSchemaValidationException(messages);
+                } else {
+                    validated = true;
+                }
+                drain();
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                failure = new IllegalArgumentException("The number of requested elements must be positive, but was " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstream.cancel();
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                drainLoop();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainLoop() {
+            while (!cancelled) {
+                Throwable validationFailure = failure;
+                if (validationFailure != null) {
+                    cancelled = true;
+                    pending = null;
+                    upstream.cancel();
+                    downstream.onError(validationFailure);
+                    return;
+                }
+                // The completion is read before the element, as the source signals the element first
+                boolean sourceDone = done;
+                T value = pending;
+                if (value != null) {
+                    if (!validated) {
+                        // Wait for the validation, which drains again once it is done
+                        return;
+                    }
+                    pending = null;
+                    validated = false;
+                    requested = false;
+                    demand.decrementAndGet();
+                    downstream.onNext(value);
+                } else if (sourceDone) {
+                    cancelled = true;
+                    Throwable sourceError = error;
+                    if (sourceError == null) {
+                        downstream.onComplete();
+                    } else {
+                        downstream.onError(sourceError);
+                    }
+                    return;
+                } else if (demand.get() > 0 && !requested) {
+                    requested = true;
+                    upstream.request(1);
+                } else {
+                    return;
+                }
+            }
+            pending = null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.core.annotation.Internal;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for the validation of a value against the schema of a type.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+@Name(ValidationEvent.NAME)
+@Label("JSON Schema Validation")
+@Description("The validation of a value against a JSON schema")
+@Category({"Micronaut", "JSON Schema"})
+@StackTrace(false)
+final class ValidationEvent extends Event {
+
+    static final String NAME = "io.micronaut.jsonschema.Validation";
+
+    @Label("Type")
+    @Description("The type whose schema the value is validated against")
+    String type;
+
+    @Label("Input Size")
+    @Description("The size of the validated JSON, or -1 if it is not known")
+    @DataAmount(DataAmount.BYTES)
+    long inputSize;
+
+    @Label("Error Count")
+    @Description("The number of validation messages")
+    int errorCount;
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.http.HttpAttributes;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.ClientFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.jsonschema.validation.DefaultValidationMessage;
+import io.micronaut.jsonschema.validation.JsonSchemaRegistry;
+import io.micronaut.jsonschema.validation.JsonSchemaValidationException;
+import io.micronaut.jsonschema.validation.JsonSchemaValidator;
+import io.micronaut.jsonschema.validation.JsonSchemaValidatorConfiguration;
+import io.micronaut.jsonschema.validation.ValidationMessage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * A client filter that validates the raw body of the responses received by the declarative clients
+ * annotated with {@link ValidJsonSchemaResponse}, before the body is decoded.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+@ValidJsonSchemaResponse
+@ClientFilter
+@Requires(classes = ClientFilter.class)
+final class JsonSchemaClientFilter {
+
+    private final JsonSchemaValidator validator;
+    private final JsonSchemaRegistry registry;
+    private final Map<ExecutableMethod<?, ?>, Optional<Class<?>>> typesByMethod = new ConcurrentHashMap<>();
+    private final Supplier<ExecutorService> executor;
+
+    JsonSchemaClientFilter(
+        JsonSchemaValidator validator,
+        JsonSchemaRegistry registry,
+        JsonSchemaValidatorConfiguration config,
+        BeanLocator beanLocator
+    ) {
+        this.validator = validator;
+        this.registry = registry;
+        this.executor = SupplierUtil.memoized(() -> beanLocator.getBean(ExecutorService.class, Qualifiers.byName(config.executor())));
+    }
+
+    @ResponseFilter
+    CompletableFuture<HttpResponse<?>> validateResponse(HttpRequest<?> request, HttpResponse<?> response) {
+        // The bodies of the error responses are not expected to match the schema of the method
+        if (response.code() >= 300) {
+            return CompletableFuture.completedFuture(response);
+        }
+        Optional<Class<?>> schemaType = request.getAttribute(HttpAttributes.INVOCATION_CONTEXT, MethodInvocationContext.class)
+            .flatMap(context -> typesByMethod.computeIfAbsent(context.getExecutableMethod(), this::findSchemaType));
+        if (schemaType.isEmpty()) {
+            return CompletableFuture.completedFuture(response);
+        }
+        // The schemas are loaded and the bodies validated on the executor, not on the event loop of the client
+        return CompletableFuture.supplyAsync(() -> {
+            validate(response, schemaType.get());
+            return response;
+        }, executor.get());
+    }
+
+    private void validate(HttpResponse<?> response, Class<?> type) {
+        Optional<byte[]> body = response.getBody(byte[].class);
+        if (body.isEmpty()) {
+            return;
+        }
+        Set<? extends ValidationMessage> messages;
+        try {
+            messages = validator.validate(body.get(), type);
+        } catch (JsonProcessingException e) {
+            messages = Set.of(DefaultValidationMessage.invalidJson(e));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!messages.isEmpty()) {
+            throw new JsonSchemaValidationException(messages);
+        }
+    }
+
+    private Optional<Class<?>> findSchemaType(ExecutableMethod<?, ?> method) {
+        Optional<Class<?>> annotatedType = method.classValue(ValidJsonSchemaResponse.class)
+            .filter(type -> type != void.class);
+        if (annotatedType.isPresent()) {
+            return annotatedType;
+        }
+        Argument<?> bodyType = method.getReturnType().asArgument();
+        while (bodyType.isAsyncOrReactive() || bodyType.isOptional() || HttpResponse.class.isAssignableFrom(bodyType.getType())) {
+            bodyType = bodyType.getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
+        }
+        return Optional.<Class<?>>of(bodyType.getType()).filter(registry::hasSchema);
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.ResourceLoader;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.server.HttpServerConfiguration;
+import io.micronaut.jsonschema.validation.JsonSchemaIndex;
+import io.micronaut.jsonschema.validation.JsonSchemaValidatorConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A controller that serves the generated JSON schemas from memory.
+ * The schemas listed in the schema index are read once at startup and kept together with a gzip-compressed copy.
+ * The catalog of all the schemas by {@code $id} written by the annotation processor is served in the same way,
+ * so that the clients can get all the schemas with a single request.
+ * The responses have a strong entity tag computed at build time, so that the conditional requests are answered
+ * with {@code 304 Not Modified}. As the plain URLs do not change with the schemas, the clients revalidate them once
+ * the configurable max age is exceeded, so that they see the schemas changed by a new deployment. Every response
+ * links to the URL versioned with the entity tag in its {@code Content-Location} header, which is served as immutable.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+@Context
+@Controller(JsonSchemaController.PATH)
+@Requires(classes = HttpServerConfiguration.class)
+@Requires(property = JsonSchemaController.ENABLED, value = StringUtils.TRUE)
+final class JsonSchemaController {
+
+    /**
+     * The property to serve the generated schemas.
+     */
+    static final String ENABLED = JsonSchemaValidatorConfiguration.PREFIX + ".http.schemas.enabled";
+
+    /**
+     * The path the schemas are served on.
+     */
+    static final String PATH = "${" + JsonSchemaValidatorConfiguration.PREFIX + ".http.schemas.path:/schemas}";
+
+    /**
+     * The property of the number of seconds the clients can use the schemas without revalidating them.
+     */
+    static final String MAX_AGE = JsonSchemaValidatorConfiguration.PREFIX + ".http.schemas.max-age";
+
+    /**
+     * The path of the schema catalog written by the annotation processor on the classpath.
+     */
+    static final String CATALOG_PATH = "META-INF/micronaut/jsonschema/catalog.json";
+
+    /**
+     * The query parameter of the version of a schema or of the catalog, which is its entity tag.
+     */
+    static final String VERSION_PARAMETER = "v";
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonSchemaController.class);
+    private static final String GZIP = "gzip";
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+    // A versioned URL always has the same content, so it is cached for a year, the longest time allowed
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final Map<String, ServedResource> schemas = new HashMap<>();
+    @Nullable
+    private final ServedResource catalog;
+    private final String cacheControl;
+
+    JsonSchemaController(
+        JsonSchemaValidatorConfiguration config,
+        ResourceLoader resourceLoader,
+        @Property(name = MAX_AGE, defaultValue = "0") long maxAge
+    ) {
+        this.cacheControl = "public, max-age=" + maxAge;
+        String folder = config.classpathFolder();
+        ClassLoader classLoader = JsonSchemaController.class.getClassLoader();
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonSchemaIndex index = JsonSchemaIndex.load(classLoader);
+        Map<String, byte[]> bytesById = new TreeMap<>();
+        for (JsonSchemaIndex.Entry entry : index.entries()) {
+            if (!entry.path().startsWith(folder)) {
+                continue;
+            }
+            Optional<InputStream> inputStream = resourceLoader.getResourceAsStream(entry.path());
+            if (inputStream.isEmpty()) {
+                LOG.warn("The JSON schema {} of {} is listed in the schema index but not found", entry.path(), entry.type());
+                continue;
+            }
+            try (InputStream stream = inputStream.get()) {
+                byte[] bytes = stream.readAllBytes();
+                // The index of an older build may not have the entity tags
+                String etag = entry.etag() == null ? digest(bytes) : entry.etag();
+                schemas.put(entry.path().substring(folder.length()), ServedResource.of(bytes, etag));
+                if (entry.id() != null) {
+                    bytesById.put(entry.id(), bytes);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read the JSON schema " + entry.path(), e);
+            }
+        }
+        catalog = loadCatalog(classLoader, bytesById, objectMapper);
+        LOG.debug("Serving {} JSON schemas", schemas.size());
+    }
+
+    @Get(uri = "/catalog.json", produces = MediaType.APPLICATION_JSON)
+    HttpResponse<byte[]> catalog(HttpRequest<?> request) {
+        return serve(catalog, request);
+    }
+
+    @Get(uri = "/{+path}", produces = MediaType.APPLICATION_JSON)
+    HttpResponse<byte[]> schema(String path, HttpRequest<?> request) {
+        return serve(schemas.get(path), request);
+    }
+
+    private HttpResponse<byte[]> serve(@Nullable ServedResource resource, HttpRequest<?> request) {
+        if (resource == null) {
+            return HttpResponse.notFound();
+        }
+        boolean gzip = acceptsGzip(request);
+        String etag = gzip ? resource.gzipEtag() : resource.etag();
+        boolean versioned = resource.version().equals(request.getParameters().get(VERSION_PARAMETER));
+        String ifNoneMatch = request.getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+        MutableHttpResponse<byte[]> response;
+        if (ifNoneMatch != null && matches(ifNoneMatch, etag)) {
+            response = HttpResponse.notModified();
+        } else if (gzip) {
+            response = HttpResponse.ok(resource.gzipBytes()).header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        } else {
+            response = HttpResponse.ok(resource.bytes());
+        }
+        response.header(HttpHeaders.ETAG, etag)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (versioned) {
+            return response.header(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        }
+        // An outdated version is served with the current content, which must not be cached as immutable
+        return response.header(HttpHeaders.CACHE_CONTROL, cacheControl)
+            .header(HttpHeaders.CONTENT_LOCATION, request.getPath() + '?' + VERSION_PARAMETER + '=' + resource.version());
+    }
+
+    /**
+     * Load the catalogs written by the annotation processor. A single catalog that has all the served schemas
+     * is served as it was written. Otherwise, the catalogs of the modules on the classpath are merged, and the first
+     * schema of an {@code $id} wins, as in the schema index. The served schemas that are missing from the catalogs,
+     * for example because a shaded jar kept the catalog of a single module, are added to the merged catalog.
+     */
+    @Nullable
+    private static ServedResource loadCatalog(ClassLoader classLoader, Map<String, byte[]> bytesById, ObjectMapper objectMapper) {
+        try {
+            List<byte[]> catalogs = new ArrayList<>();
+            Enumeration<URL> urls = classLoader.getResources(CATALOG_PATH);
+            while (urls.hasMoreElements()) {
+                try (InputStream stream = urls.nextElement().openStream()) {
+                    catalogs.add(stream.readAllBytes());
+                }
+            }
+            ObjectNode catalog = objectMapper.createObjectNode();
+            for (byte[] bytes : catalogs) {
+                Iterator<Map.Entry<String, JsonNode>> fields = objectMapper.readTree(bytes).fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    if (!catalog.has(field.getKey())) {
+                        catalog.set(field.getKey(), field.getValue());
+                    }
+                }
+            }
+            if (catalogs.size() == 1 && bytesById.keySet().stream().allMatch(catalog::has)) {
+                return ServedResource.of(catalogs.get(0), digest(catalogs.get(0)));
+            }
+            for (Map.Entry<String, byte[]> entry : bytesById.entrySet()) {
+                if (!catalog.has(entry.getKey())) {
+                    catalog.set(entry.getKey(), objectMapper.readTree(entry.getValue()));
+                }
+            }
+            if (catalog.isEmpty()) {
+                return null;
+            }
+            byte[] bytes = objectMapper.writeValueAsBytes(catalog);
+            return ServedResource.of(bytes, digest(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the JSON schema catalog", e);
+        }
+    }
+
+    private static boolean acceptsGzip(HttpRequest<?> request) {
+        for (String value : request.getHeaders().getAll(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : value.split(",")) {
+                String[] parts = coding.trim().split(";");
+                boolean refused = parts.length > 1 && parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+                if (parts[0].trim().equalsIgnoreCase(GZIP) && !refused) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the {@code If-None-Match} header lists the entity tag of the selected representation,
+     * as a client that cached the other representation does not have the one it would be sent.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4 + 32);
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(bytes);
+        }
+        return output.toByteArray();
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * A schema or catalog kept in memory.
+     *
+     * @param bytes The content
+     * @param gzipBytes The gzip-compressed content
+     * @param etag The quoted entity tag of the content
+     * @param gzipEtag The quoted entity tag of the gzip-compressed content
+     * @param version The version of the content in its versioned URL, which is its unquoted entity tag
+     */
+    private record ServedResource(
+        byte[] bytes,
+        byte[] gzipBytes,
+        String etag,
+        String gzipEtag,
+        String version
+    ) {
+
+        private static ServedResource of(byte[] bytes, String etag) throws IOException {
+            return new ServedResource(bytes, gzip(bytes), '"' + etag + '"', '"' + etag + GZIP_ETAG_SUFFIX + '"', etag);
+        }
+    }
+}
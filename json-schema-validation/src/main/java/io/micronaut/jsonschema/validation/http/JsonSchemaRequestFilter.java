@@ -0,0 +1,266 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.ServerHttpRequest;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import io.micronaut.http.body.ByteBody;
+import io.micronaut.http.body.CloseableAvailableByteBody;
+import io.micronaut.http.filter.ServerFilterPhase;
+import io.micronaut.http.server.HttpServerConfiguration;
+import io.micronaut.http.server.exceptions.response.Error;
+import io.micronaut.http.server.exceptions.response.ErrorContext;
+import io.micronaut.http.server.exceptions.response.ErrorResponseProcessor;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.jsonschema.validation.DefaultValidationMessage;
+import io.micronaut.jsonschema.validation.IncrementalValidation;
+import io.micronaut.jsonschema.validation.JsonSchemaValidator;
+import io.micronaut.jsonschema.validation.JsonSchemaValidatorConfiguration;
+import io.micronaut.jsonschema.validation.ValidationMessage;
+import io.micronaut.web.router.MethodBasedRouteMatch;
+import io.micronaut.web.router.RouteAttributes;
+import io.micronaut.web.router.RouteMatch;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * A server filter that validates the raw body of the requests to the routes with a parameter annotated
+ * with {@link ValidJsonSchema}, before the body is bound to the parameter.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+@ServerFilter(ServerFilter.MATCH_ALL_PATTERN)
+// The filter annotations are in the HTTP module that the clients use too, so the condition is on a server class
+@Requires(classes = HttpServerConfiguration.class)
+@Requires(beans = ErrorResponseProcessor.class)
+@Requires(property = JsonSchemaRequestFilter.ENABLED, notEquals = StringUtils.FALSE)
+final class JsonSchemaRequestFilter implements Ordered {
+
+    /**
+     * The property to disable the validation of the request bodies.
+     */
+    static final String ENABLED = JsonSchemaValidatorConfiguration.PREFIX + ".http.enabled";
+
+    /**
+     * The property to validate the request bodies chunk by chunk as they are received.
+     */
+    static final String INCREMENTAL = JsonSchemaValidatorConfiguration.PREFIX + ".http.incremental";
+
+    private final JsonSchemaValidator validator;
+    private final ErrorResponseProcessor<?> errorResponseProcessor;
+    private final boolean incremental;
+    private final Supplier<ExecutorService> executor;
+
+    JsonSchemaRequestFilter(
+        JsonSchemaValidator validator,
+        ErrorResponseProcessor<?> errorResponseProcessor,
+        JsonSchemaValidatorConfiguration config,
+        BeanLocator beanLocator,
+        @Property(name = INCREMENTAL, defaultValue = StringUtils.FALSE) boolean incremental
+    ) {
+        this.validator = validator;
+        this.errorResponseProcessor = errorResponseProcessor;
+        this.incremental = incremental;
+        this.executor = SupplierUtil.memoized(() -> beanLocator.getBean(ExecutorService.class, Qualifiers.byName(config.executor())));
+    }
+
+    @Override
+    public int getOrder() {
+        // The body is validated after the other filters, such as the security ones, have accepted the request
+        return ServerFilterPhase.LAST.order();
+    }
+
+    @RequestFilter
+    CompletableFuture<@Nullable MutableHttpResponse<?>> validateBody(ServerHttpRequest<?> request) {
+        Optional<Class<?>> schemaType = findSchemaType(request);
+        if (schemaType.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        ByteBody body = request.byteBody().split(ByteBody.SplitBackpressureMode.FASTEST);
+        // The schemas are loaded and the bodies validated on the executor, not on the event loop
+        ExecutorService executorService = executor.get();
+        if (incremental) {
+            // The chunks of the split body are validated as they arrive, so an invalid body is rejected early
+            return CompletableFuture.supplyAsync(() -> validator.validateIncrementally(schemaType.get()), executorService)
+                .thenCompose(validation -> {
+                    ChunkSubscriber subscriber = new ChunkSubscriber(validation, executorService);
+                    body.toByteArrayPublisher().subscribe(subscriber);
+                    return subscriber.result;
+                })
+                .thenApply(messages -> response(request, messages));
+        }
+        // The split body is buffered for the validation, while the original body is left for the binding
+        return body.buffer()
+            .thenApplyAsync(buffered -> validate(request, buffered, schemaType.get()), executorService);
+    }
+
+    private @Nullable MutableHttpResponse<?> validate(ServerHttpRequest<?> request, CloseableAvailableByteBody body, Class<?> type) {
+        Set<? extends ValidationMessage> messages;
+        try (body) {
+            messages = validator.validate(body.toByteBuffer().asNioBuffer(), type);
+        } catch (JsonProcessingException e) {
+            messages = Set.of(DefaultValidationMessage.invalidJson(e));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return response(request, messages);
+    }
+
+    private @Nullable MutableHttpResponse<?> response(ServerHttpRequest<?> request, Set<? extends ValidationMessage> messages) {
+        if (messages.isEmpty()) {
+            return null;
+        }
+        List<Error> errors = messages.stream()
+            .map(message -> (Error) message::getMessage)
+            .toList();
+        return errorResponseProcessor.processResponse(
+            ErrorContext.builder(request).errors(errors).build(),
+            HttpResponse.badRequest()
+        );
+    }
+
+    private static Optional<Class<?>> findSchemaType(ServerHttpRequest<?> request) {
+        RouteMatch<?> routeMatch = RouteAttributes.getRouteMatch(request).orElse(null);
+        if (!(routeMatch instanceof MethodBasedRouteMatch<?, ?> methodMatch)) {
+            return Optional.empty();
+        }
+        for (Argument<?> argument : methodMatch.getArguments()) {
+            AnnotationValue<ValidJsonSchema> annotation = argument.getAnnotationMetadata().getAnnotation(ValidJsonSchema.class);
+            if (annotation != null) {
+                Class<?> type = annotation.classValue()
+                    .filter(value -> value != void.class)
+                    .orElse(argument.getType());
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * A subscriber that feeds the chunks of the body to an incremental validation.
+     * The chunks are fed on the executor, not on the event loop that delivers them, and one after the other:
+     * the next chunk is only requested once the previous one is fed, and the completion is chained after the last chunk.
+     * The subscription is cancelled as soon as the body is known to be invalid.
+     */
+    private static final class ChunkSubscriber implements Subscriber<byte[]> {
+
+        private final IncrementalValidation validation;
+        private final Executor executor;
+        private final CompletableFuture<Set<? extends ValidationMessage>> result = new CompletableFuture<>();
+        private Subscription subscription;
+        // The last task of the validation, the signals are serialized so it is only updated by one thread at a time
+        private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+
+        private ChunkSubscriber(IncrementalValidation validation, Executor executor) {
+            this.validation = validation;
+            this.executor = executor;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(byte[] chunk) {
+            then(() -> feed(chunk));
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            then(this::completeValidation);
+        }
+
+        private void then(Runnable task) {
+            pending = pending.thenRunAsync(task, executor)
+                .whenComplete((ignored, throwable) -> {
+                    if (throwable != null && result.completeExceptionally(throwable)) {
+                        subscription.cancel();
+                    }
+                });
+        }
+
+        private void feed(byte[] chunk) {
+            if (result.isDone()) {
+                return;
+            }
+            boolean needsInput;
+            try {
+                needsInput = validation.feed(chunk, 0, chunk.length);
+            } catch (JsonProcessingException e) {
+                subscription.cancel();
+                result.complete(Set.of(DefaultValidationMessage.invalidJson(e)));
+                return;
+            } catch (IOException e) {
+                subscription.cancel();
+                result.completeExceptionally(e);
+                return;
+            }
+            if (needsInput) {
+                subscription.request(1);
+            } else {
+                subscription.cancel();
+                // The buffered validations validate the whole body once it is complete
+                completeValidation();
+            }
+        }
+
+        private void completeValidation() {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                result.complete(validation.complete());
+            } catch (JsonProcessingException e) {
+                result.complete(Set.of(DefaultValidationMessage.invalidJson(e)));
+            } catch (IOException e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation.http;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import io.micronaut.http.filter.ServerFilterPhase;
+import io.micronaut.http.server.HttpServerConfiguration;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.jsonschema.validation.JsonSchemaRegistry;
+import io.micronaut.jsonschema.validation.JsonSchemaValidator;
+import io.micronaut.jsonschema.validation.JsonSchemaValidatorConfiguration;
+import io.micronaut.jsonschema.validation.ValidationMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A server filter that validates a sample of the response bodies against the JSON schema of their type,
+ * to detect the responses that drift from their contract. The responses are never changed: the sampled bodies
+ * are serialized and validated in the background on the configured executor, so that the request thread does not
+ * pay for them. The invalid bodies are only reported with a log message and to the
+ * {@link JsonSchemaResponseValidationListener} beans. When too many validations are pending, the validation is dropped.
+ *
+ * <p>As the body is serialized concurrently with the response, a body that is changed after it is returned by the route
+ * may be validated with some of the changes. The bodies with a schema are expected to be immutable values,
+ * such as records, once they are returned.</p>
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Internal
+@ServerFilter(ServerFilter.MATCH_ALL_PATTERN)
+@Requires(classes = HttpServerConfiguration.class)
+@Requires(beans = JsonMapper.class)
+@Requires(property = JsonSchemaResponseFilter.SAMPLE_PERCENTAGE)
+@Requires(property = JsonSchemaResponseFilter.ENABLED, notEquals = StringUtils.FALSE)
+final class JsonSchemaResponseFilter implements Ordered {
+
+    /**
+     * The property to disable the validation of the response bodies.
+     */
+    static final String ENABLED = JsonSchemaValidatorConfiguration.PREFIX + ".http.responses.enabled";
+
+    /**
+     * The property of the percentage of the responses to validate, from 0 to 100.
+     */
+    static final String SAMPLE_PERCENTAGE = JsonSchemaValidatorConfiguration.PREFIX + ".http.responses.sample-percentage";
+
+    /**
+     * The property of the maximum number of responses waiting to be validated.
+     */
+    static final String QUEUE_SIZE = JsonSchemaValidatorConfiguration.PREFIX + ".http.responses.queue-size";
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonSchemaResponseFilter.class);
+
+    private final JsonSchemaValidator validator;
+    private final JsonSchemaRegistry registry;
+    private final JsonMapper jsonMapper;
+    private final List<JsonSchemaResponseValidationListener> listeners;
+    private final double samplePercentage;
+    private final int queueSize;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Supplier<ExecutorService> executor;
+    private final ClassValue<Boolean> hasSchema = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return registry.hasSchema(type);
+        }
+    };
+
+    JsonSchemaResponseFilter(
+        JsonSchemaValidator validator,
+        JsonSchemaRegistry registry,
+        JsonMapper jsonMapper,
+        List<JsonSchemaResponseValidationListener> listeners,
+        JsonSchemaValidatorConfiguration config,
+        BeanLocator beanLocator,
+        @Property(name = SAMPLE_PERCENTAGE) double samplePercentage,
+        @Property(name = QUEUE_SIZE, defaultValue = "1000") int queueSize
+    ) {
+        this.validator = validator;
+        this.registry = registry;
+        this.jsonMapper = jsonMapper;
+        this.listeners = listeners;
+        this.samplePercentage = samplePercentage;
+        this.queueSize = queueSize;
+        this.executor = SupplierUtil.memoized(() -> beanLocator.getBean(ExecutorService.class, Qualifiers.byName(config.executor())));
+    }
+
+    @Override
+    public int getOrder() {
+        // The response is seen before the other filters, with the body returned by the route
+        return ServerFilterPhase.LAST.order();
+    }
+
+    @ResponseFilter
+    void sampleResponse(HttpResponse<?> response) {
+        if (samplePercentage <= 0 || ThreadLocalRandom.current().nextDouble(100) >= samplePercentage) {
+            return;
+        }
+        Object body = response.getBody().orElse(null);
+        if (body == null || !hasSchema.get(body.getClass())) {
+            return;
+        }
+        Class<?> type = body.getClass();
+        if (pending.incrementAndGet() > queueSize) {
+            pending.decrementAndGet();
+            drop(type);
+            return;
+        }
+        try {
+            executor.get().execute(() -> {
+                try {
+                    validate(body, type);
+                } finally {
+                    pending.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            drop(type);
+        }
+    }
+
+    private void drop(Class<?> type) {
+        LOG.debug("Too many response validations are pending, the response body of type {} is not validated", type.getName());
+        for (JsonSchemaResponseValidationListener listener : listeners) {
+            listener.onResponseValidationDropped(type);
+        }
+    }
+
+    private void validate(Object body, Class<?> type) {
+        Set<? extends ValidationMessage> messages;
+        try {
+            // The body is serialized as it is written to the response, with the mapper of the application
+            messages = validator.validate(jsonMapper.writeValueAsBytes(body), type);
+        } catch (Exception e) {
+            LOG.warn("Could not validate the response body of type {}", type.getName(), e);
+            return;
+        }
+        if (!messages.isEmpty() && LOG.isWarnEnabled()) {
+            LOG.warn("The response body of type {} does not match its JSON schema: {}", type.getName(), messages.stream()
+                .map(ValidationMessage::getMessage)
+                .collect(Collectors.joining(", ")));
+        }
+        for (JsonSchemaResponseValidationListener listener : listeners) {
+            listener.onResponseValidated(type, messages.size());
+        }
+    }
+}
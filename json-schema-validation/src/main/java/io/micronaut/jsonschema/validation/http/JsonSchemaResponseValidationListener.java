@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation.http;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * A listener that is notified of the validations of the sampled HTTP response bodies, for example to record metrics.
+ * All the beans of this type are notified. The methods are called on the executor that validates the responses,
+ * or on the request thread when a validation is dropped, so they should return quickly.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+public interface JsonSchemaResponseValidationListener {
+
+    /**
+     * Called after the body of a sampled HTTP response is validated in the background.
+     *
+     * @param type The type of the response body
+     * @param errorCount The number of validation messages, {@code 0} if the body is valid
+     */
+    default void onResponseValidated(@NonNull Class<?> type, int errorCount) {
+    }
+
+    /**
+     * Called when the body of a sampled HTTP response is not validated,
+     * because the queue of the response validations is full.
+     *
+     * @param type The type of the response body
+     */
+    default void onResponseValidationDropped(@NonNull Class<?> type) {
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation.http;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates the raw JSON body of a request against the JSON schema of the annotated
+ * {@link io.micronaut.http.annotation.Body} parameter, before the body is bound.
+ * An invalid body is rejected with a {@code 400 Bad Request} response that lists the validation messages.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.PARAMETER})
+public @interface ValidJsonSchema {
+
+    /**
+     * The type whose JSON schema the body is validated against.
+     * The type of the annotated parameter is used by default.
+     *
+     * @return The type with a JSON schema
+     */
+    Class<?> value() default void.class;
+}
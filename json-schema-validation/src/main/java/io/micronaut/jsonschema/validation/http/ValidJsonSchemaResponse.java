@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation.http;
+
+import io.micronaut.http.annotation.FilterMatcher;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates the raw JSON body of the responses received by a declarative HTTP client against a JSON schema,
+ * before the body is decoded. It can be added to the client interface, to validate the responses of all its
+ * methods, or to single methods.
+ * An invalid body fails the call with a {@link io.micronaut.jsonschema.validation.JsonSchemaValidationException}.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@FilterMatcher
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ValidJsonSchemaResponse {
+
+    /**
+     * The type whose JSON schema the body is validated against.
+     * By default, the body type of the method is used, which is its return type unwrapped from
+     * {@link io.micronaut.http.HttpResponse}, {@link java.util.Optional} and the asynchronous and reactive types.
+     * The responses of the methods whose body type has no JSON schema are not validated.
+     *
+     * @return The type with a JSON schema
+     */
+    Class<?> value() default void.class;
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.server.HttpServerConfiguration;
+import io.micronaut.jsonschema.validation.http.JsonSchemaResponseValidationListener;
+import jakarta.inject.Singleton;
+
+/**
+ * Records the metrics of the validations of the sampled HTTP response bodies with Micrometer.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Singleton
+@Internal
+@Requires(classes = {MeterRegistry.class, HttpServerConfiguration.class})
+@Requires(beans = MeterRegistry.class)
+@Requires(property = MicrometerJsonSchemaValidationListener.ENABLED, notEquals = StringUtils.FALSE)
+final class MicrometerJsonSchemaResponseValidationListener implements JsonSchemaResponseValidationListener {
+
+    static final String RESPONSE_VALIDATIONS = "jsonschema.http.response.validations";
+
+    private static final String TAG_TYPE = "type";
+    private static final String TAG_RESULT = "result";
+
+    private final MeterRegistry meterRegistry;
+    private final ClassValue<TypeMeters> typeMeters = new ClassValue<>() {
+        @Override
+        protected TypeMeters computeValue(Class<?> type) {
+            return new TypeMeters(type.getName());
+        }
+    };
+
+    MicrometerJsonSchemaResponseValidationListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onResponseValidated(@NonNull Class<?> type, int errorCount) {
+        TypeMeters meters = typeMeters.get(type);
+        if (errorCount == 0) {
+            meters.valid.increment();
+        } else {
+            meters.invalid.increment();
+        }
+    }
+
+    @Override
+    public void onResponseValidationDropped(@NonNull Class<?> type) {
+        typeMeters.get(type).dropped.increment();
+    }
+
+    /**
+     * The meters of the responses of a type.
+     */
+    private final class TypeMeters {
+
+        private final Counter valid;
+        private final Counter invalid;
+        private final Counter dropped;
+
+        private TypeMeters(String type) {
+            valid = counter(type, "valid");
+            invalid = counter(type, "invalid");
+            dropped = counter(type, "dropped");
+        }
+
+        private Counter counter(String type, String result) {
+            return Counter.builder(RESPONSE_VALIDATIONS)
+                .description("The number of sampled HTTP response bodies validated in the background")
+                .tags(TAG_TYPE, type, TAG_RESULT, result)
+                .register(meterRegistry);
+        }
+    }
+}
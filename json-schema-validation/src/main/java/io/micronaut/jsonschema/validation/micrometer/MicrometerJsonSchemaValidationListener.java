@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jsonschema.validation.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.jsonschema.validation.JsonSchemaValidationListener;
+import io.micronaut.jsonschema.validation.JsonSchemaValidatorConfiguration;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the metrics of the JSON schema validations with Micrometer.
+ *
+ * @author agent
+ * @since 1.3.0
+ */
+@Singleton
+@Internal
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Requires(property = MicrometerJsonSchemaValidationListener.ENABLED, notEquals = StringUtils.FALSE)
+final class MicrometerJsonSchemaValidationListener implements JsonSchemaValidationListener {
+
+    /**
+     * The property to disable the metrics.
+     */
+    static final String ENABLED = JsonSchemaValidatorConfiguration.PREFIX + ".metrics.enabled";
+
+    static final String VALIDATION_TIMER = "jsonschema.validation";
+    static final String VALIDATION_RESULTS = "jsonschema.validation.results";
+    static final String VALIDATION_ERRORS = "jsonschema.validation.errors";
+    static final String COMPILATION_TIMER = "jsonschema.schema.compilation";
+    static final String CACHE_REQUESTS = "jsonschema.schema.cache.requests";
+
+    private static final String TAG_TYPE = "type";
+    private static final String TAG_RESULT = "result";
+    private static final String TAG_SCHEMA = "schema";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final ClassValue<TypeMeters> typeMeters = new ClassValue<>() {
+        @Override
+        protected TypeMeters computeValue(Class<?> type) {
+            return new TypeMeters(type.getName());
+        }
+    };
+
+    MicrometerJsonSchemaValidationListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.cacheHits = Counter.builder(CACHE_REQUESTS)
+            .description("The number of compiled JSON schemas requested from the cache")
+            .tag(TAG_RESULT, "hit")
+            .register(meterRegistry);
+        this.cacheMisses = Counter.builder(CACHE_REQUESTS)
+            .description("The number of compiled JSON schemas requested from the cache")
+            .tag(TAG_RESULT, "miss")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void onValidated(@NonNull Class<?> type, int errorCount, long durationNanos) {
+        TypeMeters meters = typeMeters.get(type);
+        meters.timer.record(durationNanos, TimeUnit.NANOSECONDS);
+        if (errorCount == 0) {
+            meters.valid.increment();
+        } else {
+            meters.invalid.increment();
+            meters.errors.record(errorCount);
+        }
+    }
+
+    @Override
+    public void onSchemaCompiled(@NonNull String id, long durationNanos) {
+        Timer.builder(COMPILATION_TIMER)
+            .description("The time to compile a JSON schema")
+            .tag(TAG_SCHEMA, id)
+            .register(meterRegistry)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onCacheHit(@NonNull String id) {
+        cacheHits.increment();
+    }
+
+    @Override
+    public void onCacheMiss(@NonNull String id) {
+        cacheMisses.increment();
+    }
+
+    /**
+     * The meters of a validated type.
+     */
+    private final class TypeMeters {
+
+        private final Timer timer;
+        private final Counter valid;
+        private final Counter invalid;
+        private final DistributionSummary errors;
+
+        private TypeMeters(String type) {
+            timer = Timer.builder(VALIDATION_TIMER)
+                .description("The time to validate a value against a JSON schema")
+                .tag(TAG_TYPE, type)
+                .register(meterRegistry);
+            valid = Counter.builder(VALIDATION_RESULTS)
+                .description("The number of validated values")
+                .tags(TAG_TYPE, type, TAG_RESULT, "valid")
+                .register(meterRegistry);
+            invalid = Counter.builder(VALIDATION_RESULTS)
+                .description("The number of validated values")
+                .tags(TAG_TYPE, type, TAG_RESULT, "invalid")
+                .register(meterRegistry);
+            errors = DistributionSummary.builder(VALIDATION_ERRORS)
+                .description("The number of validation messages of the invalid values")
+                .tag(TAG_TYPE, type)
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+class AsyncJsonSchemaValidatorTest {
+    @Inject
+    AsyncJsonSchemaValidator validator;
+
+    @Test
+    void validate() throws Exception {
+        var messages = validator.validate("{\"name\":\"\",\"age\":1}", Llama.class).get(10, TimeUnit.SECONDS);
+        assertEquals(1, messages.size());
+        assertEquals("/name: must be at least 1 characters long", messages.iterator().next().getMessage());
+        assertTrue(validator.isValid(new Llama("John", 12), Llama.class).get(10, TimeUnit.SECONDS));
+        assertFalse(validator.isValid(new Llama("John", -12), Llama.class).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void validateEachValid() throws Exception {
+        var llamas = List.of(new Llama("John", 1), new Llama("Jane", 2), new Llama("Jim", 3));
+        assertEquals(llamas, collect(validator.validateEach(publish(llamas), Llama.class)).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void validateEachInvalid() {
+        var llamas = List.of(new Llama("John", 1), new Llama("", 2), new Llama("Jim", 3));
+        var exception = assertThrows(ExecutionException.class,
+            () -> collect(validator.validateEach(publish(llamas), Llama.class)).get(10, TimeUnit.SECONDS));
+        var validationException = assertInstanceOf(JsonSchemaValidationException.class, exception.getCause());
+        assertEquals("/name: must be at least 1 characters long", validationException.getMessages().iterator().next().getMessage());
+    }
+
+    private static <T> Publisher<T> publish(List<T> values) {
+        var publisher = new SubmissionPublisher<T>();
+        return subscriber -> {
+            FlowAdapters.toPublisher(publisher).subscribe(subscriber);
+            values.forEach(publisher::submit);
+            publisher.close();
+        };
+    }
+
+    private static <T> CompletableFuture<List<T>> collect(Publisher<T> publisher) {
+        var result = new CompletableFuture<List<T>>();
+        publisher.subscribe(new Subscriber<T>() {
+            private final List<T> values = new ArrayList<>();
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T value) {
+                values.add(value);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(values);
+            }
+        });
+        return result;
+    }
+}
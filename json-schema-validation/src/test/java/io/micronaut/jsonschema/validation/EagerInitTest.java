@@ -0,0 +1,60 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.HealthResult;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.jsonschema.validation.eager-init", value = "true")
+class EagerInitTest {
+    @Inject
+    JsonSchemaEagerInitializer initializer;
+
+    @Inject
+    JsonSchemaReadinessIndicator readinessIndicator;
+
+    @Test
+    void schemasAreCompiledOnStartup() throws Exception {
+        initializer.getInitialization().get(30, TimeUnit.SECONDS);
+        assertTrue(initializer.getSchemaCount() >= 5);
+        assertTrue(initializer.getFailures().isEmpty());
+        assertEquals(HealthStatus.UP, first(readinessIndicator.getResult()).getStatus());
+    }
+
+    private static <T> T first(Publisher<T> publisher) throws Exception {
+        var result = new CompletableFuture<T>();
+        publisher.subscribe(new Subscriber<T>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(T value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        return result.get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,30 @@
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import io.micronaut.core.annotation.Introspected;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An egret, with properties that are only known at runtime.
+ */
+@Introspected
+public class Egret {
+
+    private final String name;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+    public Egret(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+}
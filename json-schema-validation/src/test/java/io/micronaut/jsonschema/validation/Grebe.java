@@ -0,0 +1,31 @@
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import io.micronaut.core.annotation.Introspected;
+
+/**
+ * A grebe, with a nest that is unwrapped with a prefix.
+ *
+ * @param name The name
+ * @param nest The nest
+ */
+@Introspected
+public record Grebe(
+    String name,
+    @JsonUnwrapped(prefix = "nest-")
+    Nest nest
+) {
+
+    /**
+     * The nest.
+     *
+     * @param lake The lake
+     * @param floating Whether the nest is floating
+     */
+    @Introspected
+    public record Nest(
+        String lake,
+        boolean floating
+    ) {
+    }
+}
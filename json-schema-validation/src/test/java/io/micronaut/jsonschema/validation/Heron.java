@@ -0,0 +1,42 @@
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.jsonschema.JsonSchema;
+import jakarta.validation.constraints.*;
+
+import java.util.List;
+
+/**
+ * A heron.
+ *
+ * @param name The name
+ * @param wingSpan The wing span of the heron
+ * @param colors The colors of the heron
+ * @param habitat The habitat of the heron
+ * @param nickname The nickname, which is not serialized
+ */
+@JsonSchema
+@Introspected
+public record Heron(
+    @NotBlank
+    String name,
+    @JsonProperty("wing-span")
+    @DecimalMin(value = "0", inclusive = false)
+    Double wingSpan,
+    @Size(min = 1, max = 3)
+    List<String> colors,
+    Habitat habitat,
+    @JsonIgnore
+    String nickname
+) {
+
+    /**
+     * The habitat.
+     */
+    public enum Habitat {
+        MARSH,
+        SHORE
+    }
+}
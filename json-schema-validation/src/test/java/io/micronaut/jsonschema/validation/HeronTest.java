@@ -0,0 +1,110 @@
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.jsonschema.validation.introspect-objects", value = "true")
+class HeronTest {
+    @Inject
+    JsonSchemaValidator validator;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    JsonMapper jsonMapper;
+
+    @Test
+    void validObject() throws IOException {
+        var heron = new Heron("Harry", 1.8, List.of("grey", "white"), Heron.Habitat.MARSH, "");
+        var assertions = validator.validate(heron, Heron.class);
+        assertEquals(0, assertions.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideInvalid")
+    void invalidObject(Heron heron, String message) throws IOException {
+        var assertions = validator.validate(heron, Heron.class);
+        assertEquals(1, assertions.size());
+        assertEquals(message, assertions.stream().findFirst().get().getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideConverted")
+    void convertedLikeJackson(Object value, Class<?> type) throws IOException {
+        var node = new BeanIntrospectionJsonNodeConverter(jsonMapper).convert(value, type).orElseThrow();
+        // Compare the parsed JSON, so that the numbers are read with the same node types
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(value)), objectMapper.readTree(node.toString()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideNotConverted")
+    void serializedWithTheMapper(Object value, Class<?> type) {
+        assertTrue(new BeanIntrospectionJsonNodeConverter(jsonMapper).convert(value, type).isEmpty());
+    }
+
+    private static Stream<Arguments> provideNotConverted() {
+        return Stream.of(
+            // The dates are written as timestamps by default
+            Arguments.of(kingfisher(), Kingfisher.class),
+            // The type ids are written by Jackson
+            Arguments.of(new MuteSwan("Sue"), Swan.class),
+            Arguments.of(new MuteSwan("Sue"), MuteSwan.class),
+            Arguments.of(new Plover("Pip", "A12"), Plover.class)
+        );
+    }
+
+    private static Stream<Arguments> provideConverted() {
+        var egret = new Egret("Edna");
+        egret.getAttributes().put("wing-span", 1.2);
+        egret.getAttributes().put("colors", List.of("white"));
+        return Stream.of(
+            Arguments.of(new Heron("Harry", 1.8, List.of("grey", "white"), Heron.Habitat.MARSH, "Hal"), Heron.class),
+            Arguments.of(new Heron("Harry", null, null, null, null), Heron.class),
+            Arguments.of(egret, Egret.class),
+            Arguments.of(new Grebe("Gus", new Grebe.Nest("Geneva", true)), Grebe.class)
+        );
+    }
+
+    static Kingfisher kingfisher() {
+        // The seconds are zero, which the toString() methods of the timestamps omit
+        return new Kingfisher(
+            "Kim",
+            new Kingfisher.Plumage("blue", "striped"),
+            OffsetDateTime.of(2024, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC),
+            ZonedDateTime.of(2024, 6, 1, 8, 30, 0, 0, ZoneId.of("Europe/Paris")),
+            LocalDateTime.of(2023, 5, 12, 6, 0)
+        );
+    }
+
+    private static Stream<Arguments> provideInvalid() {
+        return Stream.of(
+            Arguments.of(new Heron("", 1.8, null, null, null), "/name: must be at least 1 characters long"),
+            Arguments.of(new Heron("Harry", 0d, null, null, null), "/wing-span: must have an exclusive minimum value of 0"),
+            Arguments.of(new Heron("Harry", null, Collections.emptyList(), null, null), "/colors: must have at least 1 items but found 0"),
+            Arguments.of(new Heron("Harry", null, List.of("a", "b", "c", "d"), null, null), "/colors: must have at most 3 items but found 4")
+        );
+    }
+
+}
@@ -0,0 +1,90 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+class IncrementalValidationTest {
+    @Inject
+    JsonSchemaValidator validator;
+
+    @Test
+    void validJsonFedByteByByte() throws IOException {
+        var json = """
+            {"colors":["green"],"environments":["pond","river"],"skinColor":"green","species":"Pond Salamander",
+            "age":1,"negative":-12,"integer":15,"number":20.25,"unknown":{"nested":[1,2,{"a":null}]}}""";
+        assertTrue(feed(json, 1, Salamander.class).isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideInvalid")
+    void invalidJsonFedInChunks(String json, String message) throws IOException {
+        assertEquals(Set.of(message), feed(json, 3, Salamander.class));
+    }
+
+    @Test
+    void invalidJsonIsRejectedBeforeTheEnd() throws IOException {
+        IncrementalValidation validation = validator.validateIncrementally(Salamander.class);
+        byte[] start = "{\"environments\":[\"pond\",\"a\",".getBytes(StandardCharsets.UTF_8);
+        assertFalse(validation.feed(start, 0, start.length));
+        var messages = validation.complete().stream()
+            .map(ValidationMessage::getMessage)
+            .collect(Collectors.toSet());
+        assertEquals(Set.of("/environments/1: must be at least 3 characters long"), messages);
+    }
+
+    @Test
+    void missingPropertiesAreReportedAtTheEndOfTheObject() throws IOException {
+        assertEquals(Set.of(": required property 'age' not found"), feed("{\"name\":\"John\"}", 2, Llama.class));
+    }
+
+    @Test
+    void schemaWithReferencesIsBuffered() throws IOException {
+        var json = "{\"name\":\"Bob\",\"children\":[{\"name\":\"\"}]}";
+        assertEquals(Set.of("/children/0/name: must be at least 1 characters long"), feed(json, 4, Possum.class));
+    }
+
+    @Test
+    void malformedJson() {
+        assertThrows(IOException.class, () -> feed("{\"colors\":[", 2, Salamander.class));
+        assertThrows(IOException.class, () -> feed("", 1, Salamander.class));
+    }
+
+    private Set<String> feed(String json, int chunkSize, Class<?> type) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        IncrementalValidation validation = validator.validateIncrementally(type);
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            if (!validation.feed(bytes, offset, Math.min(chunkSize, bytes.length - offset))) {
+                break;
+            }
+        }
+        return validation.complete().stream()
+            .map(ValidationMessage::getMessage)
+            .collect(Collectors.toSet());
+    }
+
+    private static Stream<Arguments> provideInvalid() {
+        return Stream.of(
+            Arguments.of("{\"colors\":[]}", "/colors: must have at least 1 items but found 0"),
+            Arguments.of("{\"species\":\"invalidChar$\"}", "/species: does not match the regex pattern ^[a-zA-Z \\-]+$"),
+            Arguments.of("{\"negative\":12}", "/negative: must have an exclusive maximum value of 0"),
+            Arguments.of("{\"number\":100.6}", "/number: must have a maximum value of 100.5"),
+            Arguments.of("[]", ": array found, [object] expected")
+        );
+    }
+}
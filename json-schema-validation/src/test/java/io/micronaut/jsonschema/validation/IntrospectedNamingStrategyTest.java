@@ -0,0 +1,25 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.jsonschema.validation.introspect-objects", value = "true")
+@Property(name = "jackson.property-naming-strategy", value = "SNAKE_CASE")
+class IntrospectedNamingStrategyTest {
+    @Inject
+    JsonMapper jsonMapper;
+
+    @Test
+    void objectsAreSerializedWhenTheMapperRenamesProperties() {
+        var heron = new Heron("Harry", 1.8, List.of("grey"), Heron.Habitat.MARSH, null);
+        assertTrue(new BeanIntrospectionJsonNodeConverter(jsonMapper).convert(heron, Heron.class).isEmpty());
+    }
+}
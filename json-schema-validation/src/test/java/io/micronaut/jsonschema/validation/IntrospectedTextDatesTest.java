@@ -0,0 +1,48 @@
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.jsonschema.validation.introspect-objects", value = "true")
+@Property(name = "jackson.serialization.write-dates-as-timestamps", value = "false")
+@Property(name = "jackson.serialization-inclusion", value = "always")
+class IntrospectedTextDatesTest {
+    @Inject
+    JsonSchemaValidator validator;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    JsonMapper jsonMapper;
+
+    @Test
+    void validObjectWithTimestamps() throws IOException {
+        var assertions = validator.validate(HeronTest.kingfisher(), Kingfisher.class);
+        assertEquals(0, assertions.size());
+    }
+
+    @Test
+    void datesAreConvertedWhenTheMapperWritesThemAsText() throws IOException {
+        assertConvertedLikeJackson(HeronTest.kingfisher(), Kingfisher.class);
+    }
+
+    @Test
+    void nullsAreConvertedWhenTheMapperWritesThem() throws IOException {
+        assertConvertedLikeJackson(new Heron("Harry", null, null, null, null), Heron.class);
+    }
+
+    private void assertConvertedLikeJackson(Object value, Class<?> type) throws IOException {
+        var node = new BeanIntrospectionJsonNodeConverter(jsonMapper).convert(value, type).orElseThrow();
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(value)), objectMapper.readTree(node.toString()));
+    }
+}
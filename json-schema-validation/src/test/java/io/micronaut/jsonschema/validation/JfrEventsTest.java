@@ -0,0 +1,43 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+class JfrEventsTest {
+    @Inject
+    JsonSchemaValidator validator;
+
+    @Test
+    void eventsAreRecorded(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("recording.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(ValidationEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(SchemaLoadEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(SchemaCompileEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            validator.validate("{\"name\":\"\",\"age\":-1}", Llama.class);
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        RecordedEvent validation = events.stream().filter(e -> e.getEventType().getName().equals(ValidationEvent.NAME)).findFirst().orElseThrow();
+        assertEquals(Llama.class.getName(), validation.getString("type"));
+        assertEquals(20, validation.getLong("inputSize"));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals(SchemaLoadEvent.NAME)));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals(SchemaCompileEvent.NAME)));
+    }
+}
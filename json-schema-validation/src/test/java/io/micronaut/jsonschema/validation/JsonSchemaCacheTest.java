@@ -0,0 +1,32 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.jsonschema.validation.cache-maximum-size", value = "1")
+class JsonSchemaCacheTest {
+    @Inject
+    JsonSchemaRegistry registry;
+
+    @Test
+    void leastRecentlyUsedSchemaIsEvicted() {
+        registry.getSchema(Llama.class);
+        registry.getSchema(Llama.class);
+        registry.getSchema(Salamander.class);
+
+        JsonSchemaCacheStatistics statistics = registry.getCacheStatistics();
+        assertEquals(1, statistics.hitCount());
+        assertEquals(2, statistics.missCount());
+        assertEquals(1, statistics.size());
+        assertTrue(statistics.evictionCount() >= 1);
+
+        registry.getSchema(Llama.class);
+        assertEquals(3, registry.getCacheStatistics().missCount());
+    }
+}
@@ -0,0 +1,52 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+class JsonSchemaRegistryTest {
+    @Inject
+    JsonSchemaRegistry registry;
+
+    @Test
+    void schemaIsCompiledOnce() {
+        var schema = registry.getSchema(Possum.class);
+        assertSame(schema, registry.getSchema(Possum.class));
+        assertSame(schema, registry.getSchema("possum.schema.json"));
+        assertSame(schema, registry.getSchema("http://localhost:8080/schemas/possum.schema.json"));
+    }
+
+    @Test
+    void referencedSchemaIsShared() {
+        registry.getSchema(Possum.class);
+        assertSame(registry.getSchema("environment.schema.json"), registry.getSchema(Environment.class));
+    }
+
+    @Test
+    void referencedSchemaIsSharedBetweenParents() {
+        String environmentId = "http://localhost:8080/schemas/environment.schema.json";
+        var environment = registry.getSchema(Environment.class);
+        var possum = registry.getSchema(Possum.class);
+        var wombat = registry.getSchema(Wombat.class);
+        assertSame(environment, possum.getValidationContext().getSchemaResources().get(environmentId));
+        assertSame(environment, wombat.getValidationContext().getSchemaResources().get(environmentId));
+    }
+
+    @Test
+    void hasSchema() {
+        assertTrue(registry.hasSchema(Llama.class));
+        assertFalse(registry.hasSchema(String.class));
+        assertFalse(registry.hasSchema(JsonSchemaRegistryTest.class));
+    }
+
+    @Test
+    void unknownType() {
+        assertThrows(IllegalArgumentException.class, () -> registry.getSchema(JsonSchemaRegistryTest.class));
+    }
+}
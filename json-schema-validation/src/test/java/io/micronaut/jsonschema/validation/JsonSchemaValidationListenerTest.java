@@ -0,0 +1,58 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+@Property(name = "spec.name", value = "JsonSchemaValidationListenerTest")
+class JsonSchemaValidationListenerTest {
+    @Inject
+    JsonSchemaValidator validator;
+
+    @Inject
+    RecordingListener listener;
+
+    @Test
+    void listenerIsNotified() throws IOException {
+        validator.validate(new Llama("John", 12), Llama.class);
+        validator.validate("{\"name\":\"\",\"age\":-1}", Llama.class);
+
+        assertEquals(List.of(0, 2), listener.errorCounts);
+        assertEquals(List.of("http://localhost:8080/schemas/llama.schema.json"), listener.compiledSchemas);
+        assertTrue(listener.cacheHits >= 1);
+    }
+
+    @Singleton
+    @Requires(property = "spec.name", value = "JsonSchemaValidationListenerTest")
+    static class RecordingListener implements JsonSchemaValidationListener {
+        final List<Integer> errorCounts = new CopyOnWriteArrayList<>();
+        final List<String> compiledSchemas = new CopyOnWriteArrayList<>();
+        volatile int cacheHits;
+
+        @Override
+        public void onValidated(Class<?> type, int errorCount, long durationNanos) {
+            errorCounts.add(errorCount);
+        }
+
+        @Override
+        public void onSchemaCompiled(String id, long durationNanos) {
+            compiledSchemas.add(id);
+        }
+
+        @Override
+        public void onCacheHit(String id) {
+            cacheHits++;
+        }
+    }
+}
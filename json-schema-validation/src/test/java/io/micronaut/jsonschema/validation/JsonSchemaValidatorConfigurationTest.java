@@ -0,0 +1,38 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.jsonschema.validation.max-errors", value = "3")
+class JsonSchemaValidatorConfigurationTest {
+    @Inject
+    JsonSchemaValidatorConfiguration config;
+
+    @Test
+    void allTheSettingsAreBound() {
+        assertEquals("http://localhost:8080/schemas/", config.baseUri());
+        assertEquals(3, config.maxErrors());
+        assertEquals(TaskExecutors.BLOCKING, config.executor());
+        assertEquals(0, config.cacheMaximumSize());
+    }
+
+    @Test
+    void thePreviousConstructorUsesTheDefaults() {
+        var configuration = new JsonSchemaValidatorConfiguration("https://example.com/schemas/", "schemas/");
+        assertEquals("https://example.com/schemas/", configuration.baseUri());
+        assertEquals("schemas/", configuration.classpathFolder());
+        assertFalse(configuration.introspectObjects());
+        assertEquals(0, configuration.maxErrors());
+        assertEquals(TaskExecutors.BLOCKING, configuration.executor());
+        assertEquals(0, configuration.cacheMaximumSize());
+        assertNull(configuration.schemaDirectory());
+    }
+}
@@ -0,0 +1,45 @@
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.jsonschema.JsonSchema;
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+/**
+ * A kingfisher.
+ *
+ * @param name The name
+ * @param plumage The plumage, which is unwrapped
+ * @param firstSeen When the kingfisher was first seen
+ * @param ringed When the kingfisher was ringed
+ * @param hatched When the kingfisher hatched
+ */
+@JsonSchema
+@Introspected
+public record Kingfisher(
+    @NotBlank
+    String name,
+    @JsonUnwrapped
+    Plumage plumage,
+    OffsetDateTime firstSeen,
+    ZonedDateTime ringed,
+    LocalDateTime hatched
+) {
+
+    /**
+     * The plumage.
+     *
+     * @param color The color
+     * @param pattern The pattern
+     */
+    @Introspected
+    public record Plumage(
+        String color,
+        String pattern
+    ) {
+    }
+}
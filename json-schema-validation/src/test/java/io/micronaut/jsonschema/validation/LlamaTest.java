@@ -5,13 +5,20 @@ import io.micronaut.json.JsonMapper;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -38,6 +45,71 @@ class LlamaTest {
         assertEquals(message, assertions.stream().findFirst().get().getMessage());
     }
 
+    @Test
+    void invalidBytes() throws IOException {
+        byte[] json = "{\"name\":\"John\",\"age\":-12}".getBytes(StandardCharsets.UTF_8);
+        String message = "/age: must have a minimum value of 0";
+
+        assertEquals(message, validator.validate(json, Llama.class).iterator().next().getMessage());
+        assertEquals(message, validator.validate(new ByteArrayInputStream(json), Llama.class).iterator().next().getMessage());
+        assertEquals(message, validator.validate(ByteBuffer.wrap(json), Llama.class).iterator().next().getMessage());
+
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(json.length + 2);
+        directBuffer.put((byte) ' ').put(json).flip().position(1);
+        assertEquals(message, validator.validate(directBuffer, Llama.class).iterator().next().getMessage());
+        assertEquals(1, directBuffer.position());
+    }
+
+    @Test
+    void validateAll() throws IOException {
+        List<Object> llamas = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            llamas.add(i % 100 == 0 ? new Llama("", i) : new Llama("John", i));
+        }
+        llamas.add("{\"name\":\"John\",\"age\":-1}");
+
+        var results = validator.validateAll(llamas, Llama.class);
+        assertEquals(llamas.size(), results.size());
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals(i % 100 == 0 ? 1 : 0, results.get(i).size());
+        }
+        assertEquals("/age: must have a minimum value of 0", results.get(1000).iterator().next().getMessage());
+    }
+
+    @Test
+    void validateLines(@TempDir Path directory) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 1; i <= 3000; ++i) {
+            if (i == 1500) {
+                lines.append('\n');
+            } else if (i == 2999) {
+                lines.append("{\"name\":\n");
+            } else {
+                lines.append("{\"name\":\"John\",\"age\":").append(i % 1000 == 0 ? -1 : i).append("}\n");
+            }
+        }
+        Path file = directory.resolve("llamas.jsonl");
+        Files.writeString(file, lines);
+
+        var results = validator.validateLines(file, Llama.class);
+        assertEquals(List.of(1000L, 2000L, 2999L, 3000L), new ArrayList<>(results.keySet()));
+        assertEquals("/age: must have a minimum value of 0", results.get(1000L).iterator().next().getMessage());
+        assertTrue(results.get(2999L).iterator().next().getMessage().startsWith(": invalid JSON: "));
+        assertEquals(results.keySet(), validator.validateLines(new ByteArrayInputStream(lines.toString().getBytes(StandardCharsets.UTF_8)), Llama.class).keySet());
+    }
+
+    @Test
+    void validateFile(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("llama.json");
+        Files.writeString(file, "{\"name\":\"\",\"age\":12}");
+        var assertions = validator.validateFile(file, Llama.class);
+        assertEquals(1, assertions.size());
+        assertEquals("/name: must be at least 1 characters long", assertions.iterator().next().getMessage());
+
+        Files.writeString(file, "{\"name\":\"John\",\"age\":12}");
+        assertTrue(validator.validateFile(file, Llama.class).isEmpty());
+    }
+
     @Test
     void llamaSchema(ResourceLoader resourceLoader, JsonMapper jsonMapper) throws IOException {
         Optional<InputStream> expectedOptional = resourceLoader.getResourceAsStream("expected-llama.schema.json");
@@ -0,0 +1,39 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.jsonschema.validation.max-errors", value = "2")
+class MaxErrorsTest {
+    private static final String INVALID_JSON = """
+        {"colors":[],"environments":["a"],"skinColor":"","species":"$","age":-1,"negative":1,"integer":1,"number":1}""";
+
+    @Inject
+    JsonSchemaValidator validator;
+
+    @Test
+    void validationStopsAtMaxErrors() throws IOException {
+        assertEquals(2, validator.validate(INVALID_JSON, Salamander.class).size());
+        assertEquals(2, validator.validate(new Salamander().setColors(Collections.emptyList()).setAge(-1).setNegative(1), Salamander.class).size());
+    }
+
+    @Test
+    void isValid() throws IOException {
+        assertFalse(validator.isValid(INVALID_JSON, Salamander.class));
+        assertFalse(validator.isValid(INVALID_JSON.getBytes(StandardCharsets.UTF_8), Salamander.class));
+        assertFalse(validator.isValid(new Salamander().setAge(-1), Salamander.class));
+        assertTrue(validator.isValid(new Llama("John", 12), Llama.class));
+        assertTrue(validator.isValid("{\"name\":\"John\",\"age\":12}", Llama.class));
+    }
+}
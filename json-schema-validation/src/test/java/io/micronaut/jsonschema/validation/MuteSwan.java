@@ -0,0 +1,16 @@
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import io.micronaut.core.annotation.Introspected;
+
+/**
+ * A mute swan.
+ *
+ * @param name The name
+ */
+@Introspected
+@JsonTypeName("mute-swan")
+public record MuteSwan(
+    String name
+) implements Swan {
+}
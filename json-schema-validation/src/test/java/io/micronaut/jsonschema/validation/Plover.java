@@ -0,0 +1,20 @@
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonIncludeProperties;
+import io.micronaut.core.annotation.Introspected;
+
+/**
+ * A plover, whose included properties are limited.
+ *
+ * @param name The name
+ * @param ring The ring, which is not included
+ */
+@Introspected
+@JsonIncludeProperties("name")
+public record Plover(
+    String name,
+    @JsonInclude(JsonInclude.Include.ALWAYS)
+    String ring
+) {
+}
@@ -0,0 +1,136 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SchemaDirectoryTest implements TestPropertyProvider {
+    private static final String SCHEMA = """
+        {
+          "$schema":"https://json-schema.org/draft/2020-12/schema",
+          "$id":"http://localhost:8080/schemas/llama.schema.json",
+          "type":["object"],
+          "properties":{
+            "age":{
+              "type":["integer"],
+              "minimum":%d
+            }
+          }
+        }
+        """;
+
+    private static final String DIRECTORY_ONLY_SCHEMA = """
+        {
+          "$schema":"https://json-schema.org/draft/2020-12/schema",
+          "$id":"http://localhost:8080/schemas/alpaca.schema.json",
+          "type":["object"]
+        }
+        """;
+
+    private static final String NESTED_SCHEMA = """
+        {
+          "$schema":"https://json-schema.org/draft/2020-12/schema",
+          "$id":"http://localhost:8080/schemas/nested/koala.schema.json",
+          "type":["object"],
+          "maxProperties":%d
+        }
+        """;
+
+    @Inject
+    JsonSchemaValidator validator;
+
+    @Inject
+    DefaultJsonSchemaRegistry registry;
+
+    @Inject
+    JsonSchemaEagerInitializer initializer;
+
+    private Path directory;
+
+    @Override
+    public Map<String, String> getProperties() {
+        try {
+            directory = Files.createTempDirectory("schemas");
+            Files.writeString(directory.resolve("llama.schema.json"), SCHEMA.formatted(10));
+            Files.writeString(directory.resolve("alpaca.schema.json"), DIRECTORY_ONLY_SCHEMA);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Map.of(
+            "micronaut.jsonschema.validation.schema-directory", directory.toString(),
+            "micronaut.jsonschema.validation.eager-init", "true"
+        );
+    }
+
+    @AfterAll
+    void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void schemasOnlyInTheDirectoryAreCompiledOnStartup() throws Exception {
+        initializer.getInitialization().get(30, TimeUnit.SECONDS);
+        assertTrue(initializer.getFailures().isEmpty());
+
+        long missCount = registry.getCacheStatistics().missCount();
+        registry.getSchemaForPath(registry.getSchemaFolder() + "alpaca.schema.json");
+        assertEquals(missCount, registry.getCacheStatistics().missCount());
+    }
+
+    @Test
+    void schemaIsReloaded() throws Exception {
+        var alpaca = registry.getSchemaForPath(registry.getSchemaFolder() + "alpaca.schema.json");
+        var messages = validator.validate(new Llama("John", 5), Llama.class);
+        assertEquals(1, messages.size());
+        assertEquals("/age: must have a minimum value of 10", messages.iterator().next().getMessage());
+
+        Files.writeString(directory.resolve("llama.schema.json"), SCHEMA.formatted(0));
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!validator.validate(new Llama("John", 5), Llama.class).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(validator.validate(new Llama("John", 5), Llama.class).isEmpty());
+        // Only the changed schema is recompiled
+        assertSame(alpaca, registry.getSchemaForPath(registry.getSchemaFolder() + "alpaca.schema.json"));
+    }
+
+    @Test
+    void schemaInACreatedDirectoryIsReloaded() throws Exception {
+        Path nested = Files.createDirectory(directory.resolve("nested"));
+        Path file = Files.writeString(nested.resolve("koala.schema.json"), NESTED_SCHEMA.formatted(1));
+        String path = registry.getSchemaFolder() + "nested/koala.schema.json";
+        assertEquals(1, registry.getSchemaForPath(path).getSchemaNode().path("maxProperties").asInt());
+
+        // The directory is watched once its creation is noticed
+        long deadline = System.currentTimeMillis() + 10_000;
+        int maxProperties = 1;
+        while (maxProperties != 2 && System.currentTimeMillis() < deadline) {
+            Files.writeString(file, NESTED_SCHEMA.formatted(2));
+            Thread.sleep(50);
+            maxProperties = registry.getSchemaForPath(path).getSchemaNode().path("maxProperties").asInt();
+        }
+        assertEquals(2, maxProperties);
+    }
+}
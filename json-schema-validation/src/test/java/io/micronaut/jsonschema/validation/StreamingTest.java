@@ -0,0 +1,84 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.jsonschema.validation.streaming", value = "true")
+class StreamingTest {
+    @Inject
+    JsonSchemaValidator validator;
+
+    @Test
+    void validJson() throws IOException {
+        var json = """
+            {"colors":["green"],"environments":["pond","river"],"skinColor":"green","species":"Pond Salamander",
+            "age":1,"negative":-12,"integer":15,"number":20.25,"unknown":{"nested":[1,2,{"a":null}]}}""";
+        assertTrue(validator.validate(json, Salamander.class).isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideInvalid")
+    void invalidJson(String json, String message) throws IOException {
+        var assertions = validator.validate(json.getBytes(StandardCharsets.UTF_8), Salamander.class);
+        assertEquals(1, assertions.size());
+        assertEquals(message, assertions.iterator().next().getMessage());
+    }
+
+    @Test
+    void largeArray() throws IOException {
+        var environments = IntStream.range(0, 100_000)
+            .mapToObj(i -> i == 50_000 ? "\"x\"" : "\"pond\"")
+            .collect(Collectors.joining(",", "{\"environments\":[", "]}"));
+        var messages = validator.validate(new ByteArrayInputStream(environments.getBytes(StandardCharsets.UTF_8)), Salamander.class)
+            .stream()
+            .map(ValidationMessage::getMessage)
+            .collect(Collectors.toSet());
+        assertEquals(Set.of(
+            "/environments: must have at most 10 items but found 100000",
+            "/environments/50000: must be at least 3 characters long"
+        ), messages);
+    }
+
+    @Test
+    void schemaWithReferences() throws IOException {
+        var possum = new Possum("Bob", List.of(new Possum("", null, null)), null);
+        var assertions = validator.validate(possum, Possum.class);
+        assertEquals(1, assertions.size());
+        assertEquals("/children/0/name: must be at least 1 characters long", assertions.iterator().next().getMessage());
+    }
+
+    @Test
+    void malformedJson() {
+        assertThrows(IOException.class, () -> validator.validate("{\"colors\":[", Salamander.class));
+    }
+
+    private static Stream<Arguments> provideInvalid() {
+        return Stream.of(
+            Arguments.of("{\"colors\":[]}", "/colors: must have at least 1 items but found 0"),
+            Arguments.of("{\"environments\":[\"pond\",\"a\"]}", "/environments/1: must be at least 3 characters long"),
+            Arguments.of("{\"species\":\"invalidChar$\"}", "/species: does not match the regex pattern ^[a-zA-Z \\-]+$"),
+            Arguments.of("{\"negative\":12}", "/negative: must have an exclusive maximum value of 0"),
+            Arguments.of("{\"number\":100.6}", "/number: must have a maximum value of 100.5"),
+            Arguments.of("[]", ": array found, [object] expected")
+        );
+    }
+}
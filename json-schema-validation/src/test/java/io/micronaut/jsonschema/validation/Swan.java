@@ -0,0 +1,14 @@
+package io.micronaut.jsonschema.validation;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.micronaut.core.annotation.Introspected;
+
+/**
+ * A swan, which is written with a type id.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "@type")
+@JsonSubTypes(@JsonSubTypes.Type(MuteSwan.class))
+@Introspected
+public interface Swan {
+}
@@ -0,0 +1,107 @@
+package io.micronaut.jsonschema.validation;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatingPublisherTest {
+    private static final String COMPLETE = "complete";
+
+    @Test
+    void completionWaitsForThePendingValidation() throws Exception {
+        var validation = new CompletableFuture<Set<? extends ValidationMessage>>();
+        var subscriber = new RecordingSubscriber();
+        // The source completes right after its only element, while the element is being validated
+        new ValidatingPublisher<>(source(List.of("a")), value -> validation).subscribe(subscriber);
+
+        assertTrue(subscriber.signals.isEmpty());
+        CompletableFuture.runAsync(() -> validation.complete(Set.of()));
+        assertEquals(List.of("a", COMPLETE), subscriber.result.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void signalsAreSerializedWhenValidationsCompleteOnOtherThreads() throws Exception {
+        var values = List.of("a", "b", "c");
+        for (int i = 0; i < 1000; ++i) {
+            var subscriber = new RecordingSubscriber();
+            new ValidatingPublisher<>(source(values), value -> CompletableFuture.supplyAsync(Set::<ValidationMessage>of))
+                .subscribe(subscriber);
+            assertEquals(List.of("a", "b", "c", COMPLETE), subscriber.result.get(10, TimeUnit.SECONDS));
+            assertEquals(0, subscriber.overlaps.get());
+        }
+    }
+
+    /**
+     * A source that emits the requested elements and completes right after the last one, on the requesting thread.
+     */
+    private static Publisher<String> source(List<String> values) {
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+            private int index;
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                for (long i = 0; i < n && index < values.size(); ++i) {
+                    subscriber.onNext(values.get(index++));
+                }
+                if (index == values.size() && !done) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+    }
+
+    private static final class RecordingSubscriber implements Subscriber<String> {
+        private final List<String> signals = Collections.synchronizedList(new ArrayList<>());
+        private final CompletableFuture<List<String>> result = new CompletableFuture<>();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger overlaps = new AtomicInteger();
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String value) {
+            signal(value);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            signal(COMPLETE);
+            result.complete(List.copyOf(signals));
+        }
+
+        private void signal(String signal) {
+            if (active.incrementAndGet() != 1) {
+                overlaps.incrementAndGet();
+            }
+            signals.add(signal);
+            active.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.micronaut.jsonschema.validation;
+
+import io.micronaut.jsonschema.JsonSchema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * A wombat.
+ *
+ * @param name The name
+ * @param environment The environment
+ */
+@JsonSchema
+public record Wombat(
+        @NotBlank String name,
+        Environment environment) {
+}
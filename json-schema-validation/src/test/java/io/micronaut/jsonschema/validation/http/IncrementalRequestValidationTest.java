@@ -0,0 +1,72 @@
+package io.micronaut.jsonschema.validation.http;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.jsonschema.validation.Llama;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest
+@Property(name = "spec.name", value = "IncrementalRequestValidationTest")
+@Property(name = "micronaut.jsonschema.validation.http.incremental", value = "true")
+class IncrementalRequestValidationTest {
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void validBodyIsBound() {
+        String name = client.toBlocking().retrieve(HttpRequest.POST("/incremental-llamas", largeBody("John"))
+            .contentType(MediaType.APPLICATION_JSON_TYPE));
+        assertEquals("John", name);
+    }
+
+    @Test
+    void invalidBodyIsRejected() {
+        var exception = assertThrows(HttpClientResponseException.class, () -> client.toBlocking().exchange(
+            HttpRequest.POST("/incremental-llamas", largeBody("")).contentType(MediaType.APPLICATION_JSON_TYPE), String.class));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        String body = exception.getResponse().getBody(String.class).orElseThrow();
+        assertTrue(body.contains("/name: must be at least 1 characters long"), body);
+    }
+
+    @Test
+    void malformedBodyIsRejected() {
+        var exception = assertThrows(HttpClientResponseException.class, () -> client.toBlocking().exchange(
+            HttpRequest.POST("/incremental-llamas", "{\"name\":").contentType(MediaType.APPLICATION_JSON_TYPE), String.class));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        assertTrue(exception.getResponse().getBody(String.class).orElseThrow().contains("invalid JSON"));
+    }
+
+    private static String largeBody(String name) {
+        return IntStream.range(0, 50_000)
+            .mapToObj(i -> "\"padding\"")
+            .collect(Collectors.joining(",", "{\"name\":\"" + name + "\",\"padding\":[", "],\"age\":12}"));
+    }
+
+    @Controller("/incremental-llamas")
+    @Requires(property = "spec.name", value = "IncrementalRequestValidationTest")
+    static class LlamaController {
+        @Post
+        String create(@Body @ValidJsonSchema Llama llama) {
+            return llama.name();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.micronaut.jsonschema.validation.http;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.jsonschema.validation.JsonSchemaValidationException;
+import io.micronaut.jsonschema.validation.Llama;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest
+@Property(name = "spec.name", value = "JsonSchemaClientFilterTest")
+class JsonSchemaClientFilterTest {
+    @Inject
+    LlamaClient client;
+
+    @Test
+    void validResponseIsDecoded() {
+        assertEquals(new Llama("John", 12), client.valid());
+        assertEquals(new Llama("John", 12), client.validResponse().body());
+    }
+
+    @Test
+    void invalidResponseFails() {
+        Throwable exception = assertThrows(Exception.class, client::invalid);
+        // The exception may be wrapped by the client
+        while (!(exception instanceof JsonSchemaValidationException) && exception.getCause() != null) {
+            exception = exception.getCause();
+        }
+        var validationException = assertInstanceOf(JsonSchemaValidationException.class, exception);
+        assertEquals(1, validationException.getMessages().size());
+        assertEquals("/age: must have a minimum value of 0", validationException.getMessages().iterator().next().getMessage());
+    }
+
+    @Test
+    void methodsWithoutSchemaAreNotValidated() {
+        assertEquals("{\"name\":\"John\",\"age\":-1}", client.invalidText());
+    }
+
+    @Client("/client-llamas")
+    @ValidJsonSchemaResponse
+    @Requires(property = "spec.name", value = "JsonSchemaClientFilterTest")
+    interface LlamaClient {
+        @Get("/valid")
+        Llama valid();
+
+        @Get("/valid")
+        HttpResponse<Llama> validResponse();
+
+        @Get("/invalid")
+        Llama invalid();
+
+        @Get("/invalid")
+        String invalidText();
+    }
+
+    @Controller("/client-llamas")
+    @Requires(property = "spec.name", value = "JsonSchemaClientFilterTest")
+    static class LlamaController {
+        @Get("/valid")
+        @Produces(MediaType.APPLICATION_JSON)
+        String valid() {
+            return "{\"name\":\"John\",\"age\":12}";
+        }
+
+        @Get("/invalid")
+        @Produces(MediaType.APPLICATION_JSON)
+        String invalid() {
+            return "{\"name\":\"John\",\"age\":-1}";
+        }
+    }
+}
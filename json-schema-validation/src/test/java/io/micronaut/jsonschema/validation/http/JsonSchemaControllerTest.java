@@ -0,0 +1,121 @@
+package io.micronaut.jsonschema.validation.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest
+@Property(name = "micronaut.jsonschema.validation.http.schemas.enabled", value = "true")
+class JsonSchemaControllerTest {
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void schemaIsServed() throws IOException {
+        HttpResponse<byte[]> response = client.toBlocking().exchange(HttpRequest.GET("/schemas/llama.schema.json"), byte[].class);
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertArrayEquals(readSchema("META-INF/schemas/llama.schema.json"), response.body());
+        String etag = response.header(HttpHeaders.ETAG);
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""), etag);
+        assertEquals("public, max-age=0", response.header(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void conditionalRequestIsNotModified() {
+        String etag = client.toBlocking().exchange(HttpRequest.GET("/schemas/llama.schema.json"), byte[].class).header(HttpHeaders.ETAG);
+        HttpResponse<byte[]> response = client.toBlocking().exchange(HttpRequest.GET("/schemas/llama.schema.json")
+            .header(HttpHeaders.IF_NONE_MATCH, etag), byte[].class);
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatus());
+        assertEquals(etag, response.header(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void compressedSchemaHasItsOwnEtag() {
+        String etag = client.toBlocking().exchange(HttpRequest.GET("/schemas/llama.schema.json"), byte[].class).header(HttpHeaders.ETAG);
+        HttpResponse<byte[]> response = client.toBlocking().exchange(HttpRequest.GET("/schemas/llama.schema.json")
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip"), byte[].class);
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertNotEquals(etag, response.header(HttpHeaders.ETAG));
+
+        HttpResponse<byte[]> notModified = client.toBlocking().exchange(HttpRequest.GET("/schemas/llama.schema.json")
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+            .header(HttpHeaders.IF_NONE_MATCH, response.header(HttpHeaders.ETAG)), byte[].class);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatus());
+
+        // The compressed representation is not the one sent without gzip
+        HttpResponse<byte[]> identity = client.toBlocking().exchange(HttpRequest.GET("/schemas/llama.schema.json")
+            .header(HttpHeaders.IF_NONE_MATCH, response.header(HttpHeaders.ETAG)), byte[].class);
+        assertEquals(HttpStatus.OK, identity.getStatus());
+        assertEquals(etag, identity.header(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void catalogContainsAllTheSchemas() throws IOException {
+        HttpResponse<byte[]> response = client.toBlocking().exchange(HttpRequest.GET("/schemas/catalog.json"), byte[].class);
+        assertEquals(HttpStatus.OK, response.getStatus());
+        JsonNode catalog = new ObjectMapper().readTree(response.body());
+        assertEquals(new ObjectMapper().readTree(readSchema("META-INF/schemas/llama.schema.json")),
+            catalog.get("http://localhost:8080/schemas/llama.schema.json"));
+        assertTrue(catalog.has("http://localhost:8080/schemas/environment.schema.json"));
+
+        HttpResponse<byte[]> notModified = client.toBlocking().exchange(HttpRequest.GET("/schemas/catalog.json")
+            .header(HttpHeaders.IF_NONE_MATCH, response.header(HttpHeaders.ETAG)), byte[].class);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatus());
+    }
+
+    @Test
+    void versionedCatalogIsImmutable() {
+        HttpResponse<byte[]> response = client.toBlocking().exchange(HttpRequest.GET("/schemas/catalog.json"), byte[].class);
+        String etag = response.header(HttpHeaders.ETAG);
+        String location = response.header(HttpHeaders.CONTENT_LOCATION);
+        assertEquals("/schemas/catalog.json?v=" + etag.substring(1, etag.length() - 1), location);
+
+        HttpResponse<byte[]> versioned = client.toBlocking().exchange(HttpRequest.GET(location), byte[].class);
+        assertArrayEquals(response.body(), versioned.body());
+        assertEquals("public, max-age=31536000, immutable", versioned.header(HttpHeaders.CACHE_CONTROL));
+
+        // An outdated version is not cached as immutable
+        HttpResponse<byte[]> outdated = client.toBlocking().exchange(HttpRequest.GET("/schemas/catalog.json?v=outdated"), byte[].class);
+        assertEquals("public, max-age=0", outdated.header(HttpHeaders.CACHE_CONTROL));
+        assertEquals(location, outdated.header(HttpHeaders.CONTENT_LOCATION));
+    }
+
+    @Test
+    void catalogIsWrittenAtBuildTime() throws IOException {
+        HttpResponse<byte[]> response = client.toBlocking().exchange(HttpRequest.GET("/schemas/catalog.json"), byte[].class);
+        assertArrayEquals(readSchema(JsonSchemaController.CATALOG_PATH), response.body());
+    }
+
+    @Test
+    void unknownSchemaIsNotFound() {
+        var exception = assertThrows(HttpClientResponseException.class, () -> client.toBlocking().exchange(
+            HttpRequest.GET("/schemas/unknown.schema.json"), byte[].class));
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+    }
+
+    private static byte[] readSchema(String path) throws IOException {
+        try (InputStream inputStream = JsonSchemaControllerTest.class.getClassLoader().getResourceAsStream(path)) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.micronaut.jsonschema.validation.http;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.jsonschema.validation.Llama;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest
+@Property(name = "spec.name", value = "JsonSchemaRequestFilterTest")
+class JsonSchemaRequestFilterTest {
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void validBodyIsBound() {
+        String name = client.toBlocking().retrieve(HttpRequest.POST("/llamas", "{\"name\":\"John\",\"age\":12}")
+            .contentType(MediaType.APPLICATION_JSON_TYPE));
+        assertEquals("John", name);
+    }
+
+    @Test
+    void invalidBodyIsRejected() {
+        var exception = assertThrows(HttpClientResponseException.class, () -> client.toBlocking().exchange(
+            HttpRequest.POST("/llamas", "{\"name\":\"\"}").contentType(MediaType.APPLICATION_JSON_TYPE), String.class));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        String body = exception.getResponse().getBody(String.class).orElseThrow();
+        assertTrue(body.contains("required property 'age' not found"), body);
+        assertTrue(body.contains("/name: must be at least 1 characters long"), body);
+    }
+
+    @Test
+    void malformedBodyIsRejected() {
+        var exception = assertThrows(HttpClientResponseException.class, () -> client.toBlocking().exchange(
+            HttpRequest.POST("/llamas", "{\"name\":").contentType(MediaType.APPLICATION_JSON_TYPE), String.class));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        assertTrue(exception.getResponse().getBody(String.class).orElseThrow().contains("invalid JSON"));
+    }
+
+    @Controller("/llamas")
+    @Requires(property = "spec.name", value = "JsonSchemaRequestFilterTest")
+    static class LlamaController {
+        @Post
+        String create(@Body @ValidJsonSchema Llama llama) {
+            return llama.name();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.micronaut.jsonschema.validation.http;
+
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.jsonschema.validation.Llama;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@MicronautTest
+@Property(name = "spec.name", value = "JsonSchemaResponseFilterTest")
+@Property(name = "micronaut.jsonschema.validation.http.responses.sample-percentage", value = "100")
+// The responses are sampled even when the requests are not validated
+@Property(name = "micronaut.jsonschema.validation.http.enabled", value = "false")
+class JsonSchemaResponseFilterTest {
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    RecordingListener listener;
+
+    @Test
+    void responsesAreValidatedInTheBackground() throws InterruptedException {
+        // The invalid response is still returned unchanged
+        assertEquals("{\"name\":\"\",\"age\":-1}", client.toBlocking().retrieve(HttpRequest.GET("/llamas/invalid")));
+        client.toBlocking().retrieve(HttpRequest.GET("/llamas/valid"));
+        client.toBlocking().retrieve(HttpRequest.GET("/llamas/name"));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (listener.errorCounts.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(List.of(0, 2), listener.errorCounts.stream().sorted().toList());
+    }
+
+    @Controller("/llamas")
+    @Requires(property = "spec.name", value = "JsonSchemaResponseFilterTest")
+    static class LlamaController {
+        @Get("/invalid")
+        Llama invalid() {
+            return new Llama("", -1);
+        }
+
+        @Get("/valid")
+        Llama valid() {
+            return new Llama("John", 12);
+        }
+
+        @Get("/name")
+        String name() {
+            return "John";
+        }
+    }
+
+    @Singleton
+    @Requires(property = "spec.name", value = "JsonSchemaResponseFilterTest")
+    static class RecordingListener implements JsonSchemaResponseValidationListener {
+        final List<Integer> errorCounts = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onResponseValidated(Class<?> type, int errorCount) {
+            errorCounts.add(errorCount);
+        }
+    }
+}
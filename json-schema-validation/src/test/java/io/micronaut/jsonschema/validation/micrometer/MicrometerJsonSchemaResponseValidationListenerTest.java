@@ -0,0 +1,24 @@
+package io.micronaut.jsonschema.validation.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.jsonschema.validation.Llama;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MicrometerJsonSchemaResponseValidationListenerTest {
+
+    @Test
+    void metricsAreRecorded() {
+        var registry = new SimpleMeterRegistry();
+        var listener = new MicrometerJsonSchemaResponseValidationListener(registry);
+
+        listener.onResponseValidated(Llama.class, 2);
+        listener.onResponseValidationDropped(Llama.class);
+
+        String type = Llama.class.getName();
+        assertEquals(0, registry.get(MicrometerJsonSchemaResponseValidationListener.RESPONSE_VALIDATIONS).tags("type", type, "result", "valid").counter().count());
+        assertEquals(1, registry.get(MicrometerJsonSchemaResponseValidationListener.RESPONSE_VALIDATIONS).tags("type", type, "result", "invalid").counter().count());
+        assertEquals(1, registry.get(MicrometerJsonSchemaResponseValidationListener.RESPONSE_VALIDATIONS).tags("type", type, "result", "dropped").counter().count());
+    }
+}
@@ -0,0 +1,33 @@
+package io.micronaut.jsonschema.validation.micrometer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.jsonschema.validation.Llama;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MicrometerJsonSchemaValidationListenerTest {
+
+    @Test
+    void metricsAreRecorded() {
+        var registry = new SimpleMeterRegistry();
+        var listener = new MicrometerJsonSchemaValidationListener(registry);
+
+        listener.onCacheMiss("llama.schema.json");
+        listener.onSchemaCompiled("llama.schema.json", TimeUnit.MILLISECONDS.toNanos(5));
+        listener.onValidated(Llama.class, 0, 1000);
+        listener.onCacheHit("llama.schema.json");
+        listener.onValidated(Llama.class, 3, 1000);
+
+        String type = Llama.class.getName();
+        assertEquals(2, registry.get(MicrometerJsonSchemaValidationListener.VALIDATION_TIMER).tag("type", type).timer().count());
+        assertEquals(1, registry.get(MicrometerJsonSchemaValidationListener.VALIDATION_RESULTS).tags("type", type, "result", "valid").counter().count());
+        assertEquals(1, registry.get(MicrometerJsonSchemaValidationListener.VALIDATION_RESULTS).tags("type", type, "result", "invalid").counter().count());
+        assertEquals(3, registry.get(MicrometerJsonSchemaValidationListener.VALIDATION_ERRORS).tag("type", type).summary().totalAmount());
+        assertEquals(1, registry.get(MicrometerJsonSchemaValidationListener.COMPILATION_TIMER).tag("schema", "llama.schema.json").timer().count());
+        assertEquals(1, registry.get(MicrometerJsonSchemaValidationListener.CACHE_REQUESTS).tag("result", "hit").counter().count());
+        assertEquals(1, registry.get(MicrometerJsonSchemaValidationListener.CACHE_REQUESTS).tag("result", "miss").counter().count());
+    }
+}